@@ -0,0 +1,55 @@
+package com.slethron.geneticoptimization.benchmark;
+
+import com.slethron.geneticoptimization.domain.BitString;
+import com.slethron.geneticoptimization.problem.BitStringProblem;
+import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitStringProblemBenchmark {
+    @Param({"100", "10000", "100000"})
+    public int length;
+    
+    private BitStringProblem bitStringProblem;
+    private BitString parentA;
+    private BitString parentB;
+    
+    @Setup
+    public void setUp() {
+        bitStringProblem = new BitStringProblem(length);
+        parentA = RandomGeneratorUtil.generateRandomBitString(length);
+        parentB = RandomGeneratorUtil.generateRandomBitString(length);
+    }
+    
+    @Benchmark
+    public BitString generateIndividualFromParents() {
+        return bitStringProblem.generateIndividualFromParents(parentA, parentB);
+    }
+    
+    @Benchmark
+    public BitString mutate() {
+        return bitStringProblem.mutate(parentA, .01);
+    }
+    
+    @Benchmark
+    public double fitness() {
+        return bitStringProblem.fitness(parentA);
+    }
+}
@@ -0,0 +1,109 @@
+package com.slethron.geneticoptimization.benchmark;
+
+import com.slethron.geneticoptimization.domain.BitString;
+import com.slethron.geneticoptimization.util.FitnessKernels;
+import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the word-at-a-time fitness kernels with the character-at-a-time and bit-at-a-time loops they replace,
+ * for single long genomes and for a batch of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FitnessKernelBenchmark {
+    private static final int BATCH_SIZE = 256;
+    
+    @Param({"1000", "10000", "100000"})
+    public int length;
+    
+    private String target;
+    private byte[] asciiTarget;
+    private String individual;
+    private List<String> batch;
+    private double[] scores;
+    private BitString bitString;
+    
+    @Setup
+    public void setUp() {
+        target = RandomGeneratorUtil.generateRandomString(length);
+        asciiTarget = target.getBytes();
+        individual = RandomGeneratorUtil.generateRandomString(length);
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (var i = 0; i < BATCH_SIZE; i++) {
+            batch.add(RandomGeneratorUtil.generateRandomString(length));
+        }
+        scores = new double[BATCH_SIZE];
+        bitString = RandomGeneratorUtil.generateRandomBitString(length);
+    }
+    
+    @Benchmark
+    public int stringMatchScalar() {
+        var sum = 0;
+        for (var i = 0; i < individual.length(); i++) {
+            sum += Math.abs(target.charAt(i) - individual.charAt(i));
+        }
+        
+        return sum;
+    }
+    
+    @Benchmark
+    public int stringMatchSwar() {
+        return FitnessKernels.sumOfAbsoluteDifferences(individual, asciiTarget);
+    }
+    
+    @Benchmark
+    public double[] stringMatchBatchScalar() {
+        for (var i = 0; i < BATCH_SIZE; i++) {
+            var candidate = batch.get(i);
+            var sum = 0;
+            for (var j = 0; j < candidate.length(); j++) {
+                sum += Math.abs(target.charAt(j) - candidate.charAt(j));
+            }
+            scores[i] = sum;
+        }
+        
+        return scores;
+    }
+    
+    @Benchmark
+    public double[] stringMatchBatchSwar() {
+        FitnessKernels.sumsOfAbsoluteDifferences(batch, asciiTarget, scores);
+        return scores;
+    }
+    
+    @Benchmark
+    public int bitStringPerBit() {
+        var count = 0;
+        for (var i = 0; i < bitString.length(); i++) {
+            if (bitString.get(i)) {
+                count++;
+            }
+        }
+        
+        return count;
+    }
+    
+    @Benchmark
+    public int bitStringPerWord() {
+        return bitString.cardinality();
+    }
+}
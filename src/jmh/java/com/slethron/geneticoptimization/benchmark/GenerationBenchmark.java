@@ -0,0 +1,71 @@
+package com.slethron.geneticoptimization.benchmark;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.domain.NQueensBoard;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one full generation of the engine, from parent selection through breeding and scoring. The engine
+ * runs on a dedicated execution context so the parallel work is bounded by the thread count parameter rather
+ * than by the size of the common pool. Every invocation advances the population, so after warmup the engine is in
+ * its steady state of recycling population buffers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+    private static final int N = 32;
+    private static final double MUTATION_RATE = .05;
+    private static final double FITTEST_SAMPLE_RATIO = .25;
+    
+    @Param({"1000", "100000", "1000000"})
+    public int populationSize;
+    
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+    
+    private ExecutionContext execution;
+    private GenerationalEngine<NQueensBoard> engine;
+    private ScoredPopulation<NQueensBoard> population;
+    
+    @Setup
+    public void setUp() {
+        var nQueensProblem = new NQueensProblem(N);
+        var random = new RandomProvider(populationSize);
+        execution = ExecutionContext.dedicated(threads);
+        engine = new GenerationalEngine<>(nQueensProblem, random).withExecution(execution);
+        population = engine.evaluate(nQueensProblem.generateInitialPopulation(populationSize, random));
+    }
+    
+    @TearDown
+    public void tearDown() {
+        execution.close();
+    }
+    
+    @Benchmark
+    public ScoredPopulation<NQueensBoard> nextGeneration() {
+        population = engine.nextGeneration(population, MUTATION_RATE, FITTEST_SAMPLE_RATIO);
+        
+        return population;
+    }
+}
@@ -0,0 +1,69 @@
+package com.slethron.geneticoptimization.benchmark;
+
+import com.slethron.geneticoptimization.domain.Knapsack;
+import com.slethron.geneticoptimization.problem.KnapsackProblem;
+import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KnapsackProblemBenchmark {
+    private static final int MAX_ITEM_WEIGHT = 50;
+    private static final int MAX_ITEM_VALUE = 100;
+    
+    @Param({"16", "256", "2048"})
+    public int itemCount;
+    
+    private KnapsackProblem knapsackProblem;
+    private Knapsack parentA;
+    private Knapsack parentB;
+    
+    @Setup
+    public void setUp() {
+        var random = new Random(itemCount);
+        List<Knapsack.KnapsackItem> items = new ArrayList<>();
+        for (var i = 0; i < itemCount; i++) {
+            items.add(new Knapsack.KnapsackItem(i, random.nextInt(MAX_ITEM_WEIGHT) + 1, random.nextInt(MAX_ITEM_VALUE)));
+        }
+        
+        // Leave room for roughly half of the items so both parents keep items out of the bag
+        var maxWeight = itemCount * MAX_ITEM_WEIGHT / 4;
+        knapsackProblem = new KnapsackProblem(maxWeight, items);
+        parentA = RandomGeneratorUtil.generateRandomKnapsack(maxWeight, knapsackProblem.getCatalog());
+        parentB = RandomGeneratorUtil.generateRandomKnapsack(maxWeight, knapsackProblem.getCatalog());
+    }
+    
+    @Benchmark
+    public Knapsack generateIndividualFromParents() {
+        return knapsackProblem.generateIndividualFromParents(parentA, parentB);
+    }
+    
+    @Benchmark
+    public Knapsack mutate() {
+        return knapsackProblem.mutate(parentA, .01);
+    }
+    
+    @Benchmark
+    public double fitness() {
+        return knapsackProblem.fitness(parentA);
+    }
+}
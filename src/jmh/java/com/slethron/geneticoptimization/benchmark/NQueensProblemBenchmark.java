@@ -0,0 +1,69 @@
+package com.slethron.geneticoptimization.benchmark;
+
+import com.slethron.geneticoptimization.GeneChanges;
+import com.slethron.geneticoptimization.domain.NQueensBoard;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NQueensProblemBenchmark {
+    @Param({"20", "200", "2000", "20000"})
+    public int n;
+    
+    private NQueensProblem nQueensProblem;
+    private NQueensBoard parentA;
+    private NQueensBoard parentB;
+    private NQueensBoard moved;
+    private double parentAFitness;
+    private GeneChanges changes;
+    
+    @Setup
+    public void setUp() {
+        nQueensProblem = new NQueensProblem(n);
+        parentA = RandomGeneratorUtil.generateRandomNQueensBoard(n);
+        parentB = RandomGeneratorUtil.generateRandomNQueensBoard(n);
+        parentAFitness = nQueensProblem.fitness(parentA);
+        moved = new NQueensBoard(parentA);
+        moved.set(0, parentB.get(0));
+        changes = new GeneChanges();
+        changes.add(0);
+    }
+    
+    @Benchmark
+    public NQueensBoard generateIndividualFromParents() {
+        return nQueensProblem.generateIndividualFromParents(parentA, parentB);
+    }
+    
+    @Benchmark
+    public NQueensBoard mutate() {
+        return nQueensProblem.mutate(parentA, .01);
+    }
+    
+    @Benchmark
+    public double fitness() {
+        return nQueensProblem.fitness(parentA);
+    }
+    
+    @Benchmark
+    public double incrementalFitness() {
+        return nQueensProblem.fitness(moved, parentA, parentAFitness, changes);
+    }
+}
@@ -0,0 +1,54 @@
+package com.slethron.geneticoptimization.benchmark;
+
+import com.slethron.geneticoptimization.problem.StringMatchProblem;
+import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringMatchProblemBenchmark {
+    @Param({"16", "1000", "10000"})
+    public int length;
+    
+    private StringMatchProblem stringMatchProblem;
+    private String parentA;
+    private String parentB;
+    
+    @Setup
+    public void setUp() {
+        stringMatchProblem = new StringMatchProblem(RandomGeneratorUtil.generateRandomString(length));
+        parentA = RandomGeneratorUtil.generateRandomString(length);
+        parentB = RandomGeneratorUtil.generateRandomString(length);
+    }
+    
+    @Benchmark
+    public String generateIndividualFromParents() {
+        return stringMatchProblem.generateIndividualFromParents(parentA, parentB);
+    }
+    
+    @Benchmark
+    public String mutate() {
+        return stringMatchProblem.mutate(parentA, .01);
+    }
+    
+    @Benchmark
+    public double fitness() {
+        return stringMatchProblem.fitness(parentA);
+    }
+}
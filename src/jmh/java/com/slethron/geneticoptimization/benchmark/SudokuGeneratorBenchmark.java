@@ -0,0 +1,32 @@
+package com.slethron.geneticoptimization.benchmark;
+
+import com.slethron.geneticoptimization.domain.SudokuBoard;
+import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SudokuGeneratorBenchmark {
+    @Param({"25", "30", "40", "50"})
+    public int numberOfFilledCells;
+    
+    @Benchmark
+    public SudokuBoard generateRandomSudokuBoard() {
+        return RandomGeneratorUtil.generateRandomSudokuBoard(numberOfFilledCells);
+    }
+}
@@ -0,0 +1,56 @@
+package com.slethron.geneticoptimization.benchmark;
+
+import com.slethron.geneticoptimization.domain.SudokuBoard;
+import com.slethron.geneticoptimization.problem.SudokuProblem;
+import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SudokuProblemBenchmark {
+    @Param({"30", "50"})
+    public int numberOfFilledCells;
+    
+    private SudokuProblem sudokuProblem;
+    private SudokuBoard parentA;
+    private SudokuBoard parentB;
+    
+    @Setup
+    public void setUp() {
+        sudokuProblem = new SudokuProblem(RandomGeneratorUtil.generateRandomSudokuBoard(numberOfFilledCells));
+        var parents = sudokuProblem.generateInitialPopulation(2);
+        parentA = parents.get(0);
+        parentB = parents.get(1);
+    }
+    
+    @Benchmark
+    public SudokuBoard generateIndividualFromParents() {
+        return sudokuProblem.generateIndividualFromParents(parentA, parentB);
+    }
+    
+    @Benchmark
+    public SudokuBoard mutate() {
+        return sudokuProblem.mutate(parentA, .08);
+    }
+    
+    @Benchmark
+    public double fitness() {
+        return sudokuProblem.fitness(parentA);
+    }
+}
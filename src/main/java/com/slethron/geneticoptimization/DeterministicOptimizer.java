@@ -1,28 +1,38 @@
 package com.slethron.geneticoptimization;
 
-import java.util.Comparator;
+import com.slethron.geneticoptimization.termination.Termination;
+import com.slethron.geneticoptimization.termination.TerminationCriterion;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+
 import java.util.List;
-import java.util.SplittableRandom;
-import java.util.stream.Collectors;
 
 public interface DeterministicOptimizer<E> extends GeneticOptimizer<E>{
     default E optimize(List<E> population, double mutationRate, double fittestSampleRatio) {
-        var random = new SplittableRandom();
-        while (fitness(population.get(0)) != 0) {
-            var p = population;
-            population = p.parallelStream()
-                    .map(individual -> {
-                        var sampleBound = (int) Math.rint(p.size() * fittestSampleRatio);
-                        var child = generateIndividualFromParents(
-                                p.get(random.nextInt(sampleBound)), p.get(random.nextInt(sampleBound)));
+        return optimizeUntil(population, Termination.targetFitness(0), mutationRate, fittestSampleRatio);
+    }
 
-                        child = mutate(child, mutationRate);
+    /**
+     * Evolves a population until a perfect individual is found or the termination criterion is met, whichever
+     * comes first.
+     *
+     * @return The fittest individual of the last generation, which is only a solution if its fitness is 0
+     */
+    default E optimizeUntil(List<E> population, TerminationCriterion termination, double mutationRate,
+                              double fittestSampleRatio) {
+        return optimizeUntil(population, termination, mutationRate, fittestSampleRatio,
+                ExecutionContext.commonPool());
+    }
 
-                        return child;
-                    }).sorted(Comparator.comparingDouble(this::fitness))
-                    .collect(Collectors.toList());
-        }
+    /**
+     * Evolves a population as {@link #optimizeUntil(List, TerminationCriterion, double, double)} does, on the
+     * threads of the given context.
+     */
+    default E optimizeUntil(List<E> population, TerminationCriterion termination, double mutationRate,
+                              double fittestSampleRatio, ExecutionContext execution) {
+        var scored = new GenerationalEngine<>(this)
+                .withExecution(execution)
+                .run(population, mutationRate, fittestSampleRatio, Termination.targetFitness(0).or(termination));
 
-        return population.get(0);
+        return scored.get(scored.fittestIndex());
     }
 }
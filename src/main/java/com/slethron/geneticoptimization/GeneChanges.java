@@ -0,0 +1,86 @@
+package com.slethron.geneticoptimization;
+
+/**
+ * Records the positions at which a child may differ from the parent it is compared against. Operators add the
+ * positions they overwrite, and {@link IncrementalOptimizer#fitness(Object, Object, double, GeneChanges)} uses
+ * them to update the parent's score instead of scoring the child from scratch. Recording a position whose value
+ * did not actually change is harmless; failing to record one that did is not.
+ *
+ * <p>An instance is reused across children by a single thread, so clearing it and recording positions never
+ * allocates once it has grown to the size of the genome.
+ */
+public class GeneChanges {
+    private int[] positions;
+    private int[] stamps;
+    private int stamp;
+    private int size;
+    private boolean allChanged;
+
+    public GeneChanges() {
+        positions = new int[16];
+        stamps = new int[0];
+        stamp = 1;
+    }
+
+    /**
+     * Forgets all recorded positions.
+     */
+    public void clear() {
+        size = 0;
+        allChanged = false;
+        stamp++;
+        if (stamp == 0) {
+            // The stamp wrapped around, so old marks could be mistaken for current ones
+            stamps = new int[stamps.length];
+            stamp = 1;
+        }
+    }
+
+    /**
+     * Records a changed position. Positions recorded more than once are only kept once.
+     */
+    public void add(int position) {
+        if (allChanged) {
+            return;
+        }
+        if (position >= stamps.length) {
+            var grown = new int[Math.max(position + 1, stamps.length * 2)];
+            System.arraycopy(stamps, 0, grown, 0, stamps.length);
+            stamps = grown;
+        }
+        if (stamps[position] == stamp) {
+            return;
+        }
+
+        stamps[position] = stamp;
+        if (size == positions.length) {
+            var grown = new int[positions.length * 2];
+            System.arraycopy(positions, 0, grown, 0, size);
+            positions = grown;
+        }
+        positions[size++] = position;
+    }
+
+    /**
+     * Records that any position may have changed, which makes the child be scored from scratch.
+     */
+    public void markAllChanged() {
+        allChanged = true;
+    }
+
+    public boolean isAllChanged() {
+        return allChanged;
+    }
+
+    public boolean contains(int position) {
+        return allChanged || position < stamps.length && stamps[position] == stamp;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(int index) {
+        return positions[index];
+    }
+}
@@ -0,0 +1,497 @@
+package com.slethron.geneticoptimization;
+
+import com.slethron.geneticoptimization.anytime.Improvement;
+import com.slethron.geneticoptimization.anytime.ImprovementListener;
+import com.slethron.geneticoptimization.checkpoint.Checkpoint;
+import com.slethron.geneticoptimization.checkpoint.Checkpointer;
+import com.slethron.geneticoptimization.evaluation.BatchEvaluator;
+import com.slethron.geneticoptimization.evaluation.FitnessCache;
+import com.slethron.geneticoptimization.metrics.OptimizationMetrics;
+import com.slethron.geneticoptimization.metrics.OptimizationMetrics.Phase;
+import com.slethron.geneticoptimization.selection.ParentSelector;
+import com.slethron.geneticoptimization.selection.SelectionStrategy;
+import com.slethron.geneticoptimization.selection.TruncationSelection;
+import com.slethron.geneticoptimization.termination.EvolutionProgress;
+import com.slethron.geneticoptimization.termination.TerminationCriterion;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+import com.slethron.geneticoptimization.util.RandomProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Runs the generation loop shared by the optimizer interfaces. Every child is scored exactly once, in parallel,
+ * as it is produced; the score is stored next to the child in a {@link ScoredPopulation} and read back from
+ * there by parent selection and by any termination check.
+ *
+ * <p>Populations are never fully sorted between generations. Parents are drawn by a {@link SelectionStrategy},
+ * by default a {@link TruncationSelection} that partially selects the fittest slice, and callers that want an
+ * ordered result ask for one with {@link ScoredPopulation#sortFittest(int)}. With elitism, the fittest few
+ * individuals of each generation are carried into the next one unchanged and are not scored again.
+ *
+ * <p>Each population slot of each generation is bred from its own random stream of the engine's
+ * {@link RandomProvider}, so two engines with the same seed breed the same generations from the same initial
+ * population.
+ *
+ * <p>The engine recycles the populations it breeds. The population returned by one call to
+ * {@link #nextGeneration(ScoredPopulation, double, double)} is overwritten two calls later, and for an
+ * {@link InPlaceOptimizer} its individuals are overwritten along with it, so callers must copy any individual
+ * they want to keep beyond that.
+ *
+ * <p>For an {@link IncrementalOptimizer}, children report the genes that differ from their first parent and are
+ * scored by updating that parent's stored score.
+ *
+ * <p>An engine given a {@link BatchEvaluator} breeds every child of a generation first and then has the evaluator
+ * score them all, waiting for the last score before the generation is returned. Such an engine never scores
+ * incrementally.
+ *
+ * <p>An engine given {@link OptimizationMetrics} times each phase of breeding every child and records the
+ * statistics of every generation. Without them, the engine reads no clocks at all.
+ *
+ * <p>An engine given a {@link Checkpointer} hands it every few generations of {@link #run} to be written in the
+ * background, and does not recycle a population while it is being written. {@link #resume} continues a run from
+ * such a checkpoint.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public class GenerationalEngine<E> {
+    private GeneticOptimizer<E> optimizer;
+    private InPlaceOptimizer<E> inPlaceOptimizer;
+    private IncrementalOptimizer<E> incrementalOptimizer;
+    private ThreadLocal<GeneChanges> geneChanges;
+    private RandomProvider random;
+    private long generation;
+    private long evaluations;
+    private ExecutionContext execution;
+    private List<ImprovementListener<E>> listeners;
+    private OptimizationMetrics metrics;
+    private Checkpointer<E> checkpointer;
+    private SelectionStrategy selection;
+    private BatchEvaluator<E> batchEvaluator;
+    private FitnessCache<E> fitnessCache;
+    private int elitism;
+    private ScoredPopulation<E> spare;
+    private ScoredPopulation<E> lastBred;
+
+    public GenerationalEngine(GeneticOptimizer<E> optimizer) {
+        this(optimizer, new RandomProvider());
+    }
+
+    public GenerationalEngine(GeneticOptimizer<E> optimizer, RandomProvider random) {
+        this.optimizer = optimizer;
+        this.random = random;
+        execution = ExecutionContext.commonPool();
+        listeners = new ArrayList<>();
+        if (optimizer instanceof InPlaceOptimizer) {
+            inPlaceOptimizer = (InPlaceOptimizer<E>) optimizer;
+        }
+        if (optimizer instanceof IncrementalOptimizer) {
+            incrementalOptimizer = (IncrementalOptimizer<E>) optimizer;
+            geneChanges = ThreadLocal.withInitial(GeneChanges::new);
+        }
+    }
+
+    /**
+     * Sets whether individuals are scored and bred in parallel on the common pool, which is the default. Engines
+     * that already run one per thread, such as the islands of an island model, work sequentially instead.
+     *
+     * @return This engine
+     */
+    public GenerationalEngine<E> withParallel(boolean parallel) {
+        return withExecution(parallel ? ExecutionContext.commonPool() : ExecutionContext.sequential());
+    }
+
+    /**
+     * Scores, selects and breeds on the threads of the given context, in chunks of its grain size.
+     *
+     * @return This engine
+     */
+    public GenerationalEngine<E> withExecution(ExecutionContext execution) {
+        this.execution = execution;
+        return this;
+    }
+
+    /**
+     * Scores individuals through the given evaluator instead of the optimizer's own fitness function.
+     *
+     * @return This engine
+     */
+    public GenerationalEngine<E> withBatchEvaluator(BatchEvaluator<E> batchEvaluator) {
+        this.batchEvaluator = batchEvaluator;
+        return this;
+    }
+
+    /**
+     * Looks every child up in the given cache before scoring it, so duplicates are scored once while they stay
+     * in the cache. Children of an in-place problem are overwritten in later generations, so unless the cache
+     * already has a copier it is given the problem's {@code copy}. Batch evaluators bypass the cache.
+     *
+     * @return This engine
+     */
+    public GenerationalEngine<E> withFitnessCache(FitnessCache<E> fitnessCache) {
+        if (inPlaceOptimizer != null && !fitnessCache.hasCopier()) {
+            fitnessCache.withCopier(inPlaceOptimizer::copy);
+        }
+        this.fitnessCache = fitnessCache;
+        return this;
+    }
+
+    /**
+     * Draws parents with the given strategy, in place of truncation selection at the sample ratio passed to each
+     * generation.
+     *
+     * @return This engine
+     */
+    public GenerationalEngine<E> withSelection(SelectionStrategy selection) {
+        this.selection = selection;
+        return this;
+    }
+
+    /**
+     * @param elitism The number of fittest individuals carried into the next generation unchanged. For an
+     *                {@link InPlaceOptimizer} they are carried over as copies.
+     * @return This engine
+     */
+    public GenerationalEngine<E> withElitism(int elitism) {
+        if (elitism < 0) {
+            throw new IllegalArgumentException("Elitism cannot be negative.");
+        }
+        this.elitism = elitism;
+        return this;
+    }
+
+    /**
+     * Adds a listener that {@link #run} tells about every new best individual, after the generation it was
+     * found in. For an {@link InPlaceOptimizer} the listener receives a copy of the individual.
+     *
+     * @return This engine
+     */
+    public GenerationalEngine<E> withImprovementListener(ImprovementListener<E> listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Records where the time of every generation goes. Unless set, {@link #run} registers metrics of its own
+     * for the length of the run when the system property {@value OptimizationMetrics#ENABLED_PROPERTY} is set.
+     *
+     * @return This engine
+     */
+    public GenerationalEngine<E> withMetrics(OptimizationMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Checkpoints {@link #run} and {@link #resume} at the interval of the checkpointer.
+     *
+     * @return This engine
+     */
+    public GenerationalEngine<E> withCheckpointer(Checkpointer<E> checkpointer) {
+        this.checkpointer = checkpointer;
+        return this;
+    }
+
+    /**
+     * Scores an initial population and breeds generations from it until the termination criterion is met. The
+     * criterion is checked once before the first generation and after every generation.
+     *
+     * @param population         The initial population
+     * @param mutationRate       The probability of mutating each gene of a child
+     * @param fittestSampleRatio The fraction of the fittest individuals parents are drawn from
+     * @param termination        Decides when the run ends
+     * @return The last generation, in no particular order
+     */
+    public ScoredPopulation<E> run(List<E> population, double mutationRate, double fittestSampleRatio,
+                                   TerminationCriterion termination) {
+        return withRunMetrics(() -> {
+            var firstEvaluation = evaluations;
+            var scored = evaluate(population);
+            return evolve(scored, new EvolutionProgress(optimizer.isMaximizing()), 0, firstEvaluation, mutationRate,
+                    fittestSampleRatio, termination);
+        });
+    }
+
+    /**
+     * Continues a run from a checkpoint until the termination criterion is met. The engine takes over the
+     * checkpoint's generation and evaluation counters, so its random provider must use the checkpoint's seed
+     * for the run to breed the generations the original run would have. The termination criterion sees the best
+     * score and the stagnation of the original run.
+     *
+     * @param checkpoint         The checkpoint to continue from
+     * @param mutationRate       The probability of mutating each gene of a child
+     * @param fittestSampleRatio The fraction of the fittest individuals parents are drawn from
+     * @param termination        Decides when the run ends, counting generations from the start of the original run
+     * @return The last generation, in no particular order
+     */
+    public ScoredPopulation<E> resume(Checkpoint<E> checkpoint, double mutationRate, double fittestSampleRatio,
+                                      TerminationCriterion termination) {
+        if (checkpoint.getSeed() != random.getSeed()) {
+            throw new IllegalArgumentException("The engine's random provider must use the checkpoint's seed.");
+        }
+
+        generation = checkpoint.getGeneration();
+        evaluations = checkpoint.getEvaluations();
+        var progress = new EvolutionProgress(optimizer.isMaximizing());
+        progress.restore(checkpoint.getBestFitness(), checkpoint.getLastImprovement());
+        return withRunMetrics(() -> evolve(checkpoint.getPopulation(), progress, checkpoint.getGeneration(), 0,
+                mutationRate, fittestSampleRatio, termination));
+    }
+
+    /**
+     * Runs with metrics registered for the length of the run, if no metrics are set and the system property asks
+     * for them.
+     */
+    private ScoredPopulation<E> withRunMetrics(Supplier<ScoredPopulation<E>> run) {
+        if (metrics != null || !OptimizationMetrics.isEnabledByProperty()) {
+            return run.get();
+        }
+
+        try (var runMetrics = OptimizationMetrics.register(optimizer.getClass().getSimpleName())) {
+            metrics = runMetrics;
+            return run.get();
+        } finally {
+            metrics = null;
+        }
+    }
+
+    /**
+     * Breeds generations until the criterion is met and waits for the last checkpoint to be written.
+     */
+    private ScoredPopulation<E> evolve(ScoredPopulation<E> scored, EvolutionProgress progress, long firstGeneration,
+                                       long firstEvaluation, double mutationRate, double fittestSampleRatio,
+                                       TerminationCriterion termination) {
+        var fittest = scored.fittestIndex();
+        if (progress.update(firstGeneration, evaluations - firstEvaluation, scored.getFitness(fittest))) {
+            publishImprovement(progress, scored, fittest);
+        }
+        while (!termination.isMet(progress)) {
+            scored = nextGeneration(scored, mutationRate, fittestSampleRatio);
+            fittest = scored.fittestIndex();
+            if (progress.update(progress.getGeneration() + 1, evaluations - firstEvaluation,
+                    scored.getFitness(fittest))) {
+                publishImprovement(progress, scored, fittest);
+            }
+            if (checkpointer != null && generation % checkpointer.getInterval() == 0) {
+                checkpointer.offer(new Checkpoint<>(random.getSeed(), generation, evaluations,
+                        progress.getBestFitness(), progress.getLastImprovement(), scored));
+            }
+        }
+        if (checkpointer != null) {
+            checkpointer.await();
+        }
+
+        return scored;
+    }
+
+    private void publishImprovement(EvolutionProgress progress, ScoredPopulation<E> population, int fittest) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+
+        var individual = population.get(fittest);
+        if (inPlaceOptimizer != null) {
+            individual = inPlaceOptimizer.copy(individual);
+        }
+        var improvement = new Improvement<>(progress.getGeneration(), individual, population.getFitness(fittest),
+                progress.getElapsedNanos());
+        for (var listener : listeners) {
+            listener.onImprovement(improvement);
+        }
+    }
+
+    /**
+     * Scores each individual of an initial population once.
+     *
+     * @param population The individuals to score
+     * @return The scored population, in the order of the given list
+     */
+    public ScoredPopulation<E> evaluate(List<E> population) {
+        var scored = new ScoredPopulation<E>(population.size(), optimizer.isMaximizing());
+        var metrics = this.metrics;
+        if (batchEvaluator != null) {
+            for (var i = 0; i < population.size(); i++) {
+                scored.set(i, population.get(i), Double.NaN);
+            }
+            var start = metrics != null ? System.nanoTime() : 0;
+            batchEvaluator.evaluate(scored, 0, scored.size());
+            lap(metrics, Phase.FITNESS, start);
+        } else {
+            execution.forEach(0, population.size(), i -> {
+                var individual = population.get(i);
+                var start = metrics != null ? System.nanoTime() : 0;
+                scored.set(i, individual, fitnessCache != null
+                        ? fitnessCache.fitness(individual, optimizer::fitness)
+                        : optimizer.fitness(individual));
+                lap(metrics, Phase.FITNESS, start);
+            });
+        }
+        evaluations += population.size();
+        if (metrics != null) {
+            metrics.recordEvaluations(population.size());
+        }
+
+        return scored;
+    }
+
+    /**
+     * Breeds a new generation of the same size from a population.
+     *
+     * @param population         The current population, in any order
+     * @param mutationRate       The probability of mutating each gene of a child
+     * @param fittestSampleRatio The fraction of the fittest individuals parents are drawn from, unless the engine
+     *                           has its own selection strategy
+     * @return The next generation, in no particular order
+     */
+    public ScoredPopulation<E> nextGeneration(ScoredPopulation<E> population, double mutationRate,
+                                              double fittestSampleRatio) {
+        var metrics = this.metrics;
+        var start = metrics != null ? System.nanoTime() : 0;
+        var next = takeBuffer(population);
+        var eliteCount = 0;
+        if (elitism > 0) {
+            // Elites are placed before the strategy prepares, which may reuse the array they were selected into
+            var elites = population.selectFittest(Math.min(elitism, population.size()), execution);
+            eliteCount = elites.length;
+            for (var i = 0; i < eliteCount; i++) {
+                var elite = population.get(elites[i]);
+                next.set(i, inPlaceOptimizer != null ? inPlaceOptimizer.copy(elite) : elite,
+                        population.getFitness(elites[i]));
+            }
+        }
+        var strategy = selection != null ? selection : new TruncationSelection(fittestSampleRatio);
+        var parents = strategy.prepare(population, execution);
+        lap(metrics, Phase.SELECTION, start);
+        var stream = generation++;
+        execution.forEach(eliteCount, population.size(),
+                i -> breed(population, parents, next, i, stream, mutationRate, metrics));
+        if (batchEvaluator != null) {
+            var fitnessStart = metrics != null ? System.nanoTime() : 0;
+            batchEvaluator.evaluate(next, eliteCount, next.size());
+            lap(metrics, Phase.FITNESS, fitnessStart);
+        }
+        evaluations += population.size() - eliteCount;
+        if (metrics != null) {
+            metrics.recordEvaluations(population.size() - eliteCount);
+            metrics.recordGeneration(next, System.nanoTime() - start);
+        }
+
+        return next;
+    }
+
+    private void breed(ScoredPopulation<E> population, ParentSelector parents, ScoredPopulation<E> next, int slot,
+                       long stream, double mutationRate, OptimizationMetrics metrics) {
+        var mark = metrics != null ? System.nanoTime() : 0;
+        var random = this.random.bind(stream, slot);
+        var parentAIndex = parents.select(random);
+        var parentA = population.get(parentAIndex);
+        var parentB = population.get(parents.select(random));
+        mark = lap(metrics, Phase.SELECTION, mark);
+
+        E child;
+        GeneChanges changes = null;
+        if (incrementalOptimizer != null) {
+            changes = geneChanges.get();
+            changes.clear();
+        }
+        if (inPlaceOptimizer != null) {
+            child = next.get(slot);
+            if (child == null) {
+                child = inPlaceOptimizer.copy(parentA);
+            }
+            if (changes != null) {
+                inPlaceOptimizer.crossoverInto(parentA, parentB, child, changes);
+                mark = lap(metrics, Phase.CROSSOVER, mark);
+                inPlaceOptimizer.mutateInPlace(child, mutationRate, changes);
+            } else {
+                inPlaceOptimizer.crossoverInto(parentA, parentB, child);
+                mark = lap(metrics, Phase.CROSSOVER, mark);
+                inPlaceOptimizer.mutateInPlace(child, mutationRate);
+            }
+        } else if (changes != null) {
+            child = incrementalOptimizer.generateIndividualFromParents(parentA, parentB, changes);
+            mark = lap(metrics, Phase.CROSSOVER, mark);
+            child = incrementalOptimizer.mutate(child, mutationRate, changes);
+        } else {
+            child = optimizer.generateIndividualFromParents(parentA, parentB);
+            mark = lap(metrics, Phase.CROSSOVER, mark);
+            child = optimizer.mutate(child, mutationRate);
+        }
+        mark = lap(metrics, Phase.MUTATION, mark);
+
+        if (batchEvaluator != null) {
+            next.set(slot, child, Double.NaN);
+            return;
+        }
+        var parentAFitness = population.getFitness(parentAIndex);
+        if (fitnessCache != null) {
+            var childChanges = changes;
+            next.set(slot, child, fitnessCache.fitness(child,
+                    individual -> score(individual, parentA, parentAFitness, childChanges)));
+        } else {
+            next.set(slot, child, score(child, parentA, parentAFitness, changes));
+        }
+        lap(metrics, Phase.FITNESS, mark);
+    }
+
+    /**
+     * Scores a child, incrementally from its first parent when only some of its genes changed.
+     */
+    private double score(E child, E parentA, double parentAFitness, GeneChanges changes) {
+        if (changes != null && !changes.isAllChanged()) {
+            return incrementalOptimizer.fitness(child, parentA, parentAFitness, changes);
+        }
+
+        return optimizer.fitness(child);
+    }
+
+    /**
+     * Adds the time since the mark to a phase and returns the new mark, or does nothing without metrics.
+     */
+    private static long lap(OptimizationMetrics metrics, Phase phase, long mark) {
+        if (metrics == null) {
+            return 0;
+        }
+
+        var now = System.nanoTime();
+        metrics.recordPhase(phase, now - mark);
+        return now;
+    }
+
+    /**
+     * Returns the number of generations this engine has bred so far.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the number of individuals this engine has scored so far.
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Returns the population the next generation is bred into. Only populations bred by this engine are ever
+     * recycled, so the individuals of an initial population handed in by a caller are never overwritten, and
+     * neither are those of a population that is still being checkpointed.
+     */
+    private ScoredPopulation<E> takeBuffer(ScoredPopulation<E> population) {
+        var next = spare;
+        if (next == null || next == population || next.size() != population.size()
+                || checkpointer != null && checkpointer.holds(next)) {
+            next = new ScoredPopulation<>(population.size(), population.isMaximizing());
+        }
+
+        spare = population == lastBred ? population : null;
+        lastBred = next;
+
+        return next;
+    }
+
+    public static int sampleBound(ScoredPopulation<?> population, double fittestSampleRatio) {
+        return TruncationSelection.sampleBound(population.size(), fittestSampleRatio);
+    }
+}
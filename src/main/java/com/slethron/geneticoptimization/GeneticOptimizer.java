@@ -1,29 +1,58 @@
 package com.slethron.geneticoptimization;
 
-import java.util.Comparator;
+import com.slethron.geneticoptimization.selection.SelectionStrategy;
+import com.slethron.geneticoptimization.termination.Termination;
+import com.slethron.geneticoptimization.termination.TerminationCriterion;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+
 import java.util.List;
-import java.util.SplittableRandom;
-import java.util.stream.Collectors;
 
 public interface GeneticOptimizer<E> {
     default List<E> optimize(List<E> population, int generationLimit, double mutationRate, double fittestSampleRatio) {
-        var random = new SplittableRandom();
-        for (var generation = 0; generation < generationLimit; generation++) {
-            var p = population;
-            population = p.parallelStream()
-                    .map(individual -> {
-                        var sampleBound = (int) Math.rint(p.size() * fittestSampleRatio);
-                        var child = generateIndividualFromParents(
-                                p.get(random.nextInt(sampleBound)), p.get(random.nextInt(sampleBound)));
-                        
-                        child = mutate(child, mutationRate);
+        return optimize(population, Termination.maxGenerations(generationLimit), mutationRate, fittestSampleRatio);
+    }
+    
+    /**
+     * Evolves a population until the termination criterion is met.
+     *
+     * @return The last generation, starting with its fittest individuals in order of fitness
+     */
+    default List<E> optimize(List<E> population, TerminationCriterion termination, double mutationRate,
+                             double fittestSampleRatio) {
+        return optimize(population, termination, mutationRate, fittestSampleRatio, ExecutionContext.commonPool());
+    }
+    
+    /**
+     * Evolves a population until the termination criterion is met, on the threads of the given context.
+     *
+     * @return The last generation, starting with its fittest individuals in order of fitness
+     */
+    default List<E> optimize(List<E> population, TerminationCriterion termination, double mutationRate,
+                             double fittestSampleRatio, ExecutionContext execution) {
+        var scored = new GenerationalEngine<>(this)
+                .withExecution(execution)
+                .run(population, mutationRate, fittestSampleRatio, termination);
+        scored.sortFittest(GenerationalEngine.sampleBound(scored, fittestSampleRatio), execution);
 
-                        return child;
-                    }).sorted(Comparator.comparingDouble(this::fitness))
-                    .collect(Collectors.toList());
-        }
+        return scored.toList();
+    }
+    
+    /**
+     * Evolves a population until the termination criterion is met, drawing parents with the given strategy and
+     * carrying the fittest individuals of each generation into the next one unchanged.
+     *
+     * @param elitism The number of fittest individuals carried over per generation, possibly 0
+     * @return The last generation, in order of fitness
+     */
+    default List<E> optimize(List<E> population, TerminationCriterion termination, double mutationRate,
+                             SelectionStrategy selection, int elitism) {
+        var scored = new GenerationalEngine<>(this)
+                .withSelection(selection)
+                .withElitism(elitism)
+                .run(population, mutationRate, 1, termination);
+        scored.sort();
 
-        return population;
+        return scored.toList();
     }
     
     E generateIndividualFromParents(E parentA, E parentB);
@@ -31,4 +60,8 @@ public interface GeneticOptimizer<E> {
     E mutate(E individual, double mutationRate);
     
     double fitness(E individual);
+    
+    default boolean isMaximizing() {
+        return false;
+    }
 }
@@ -0,0 +1,44 @@
+package com.slethron.geneticoptimization;
+
+/**
+ * An optional extension of {@link GeneticOptimizer} for problems whose individuals can be overwritten in place.
+ * When the optimizer implements it, {@link GenerationalEngine} keeps two populations of preallocated
+ * individuals and breeds each generation into the one that is no longer needed, so a running optimization
+ * stops allocating new individuals after its first generations.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public interface InPlaceOptimizer<E> extends GeneticOptimizer<E> {
+    /**
+     * Creates an independent copy of an individual, used to preallocate population buffers.
+     */
+    E copy(E individual);
+    
+    /**
+     * Overwrites the target with a child of the two parents. The target is never one of the parents.
+     */
+    void crossoverInto(E parentA, E parentB, E target);
+    
+    /**
+     * Mutates the target in place.
+     */
+    void mutateInPlace(E target, double mutationRate);
+    
+    /**
+     * Overwrites the target with a child of the two parents, adding the positions at which the target differs
+     * from parent A to the changes. Only used when the optimizer is also an {@link IncrementalOptimizer}.
+     */
+    default void crossoverInto(E parentA, E parentB, E target, GeneChanges changes) {
+        changes.markAllChanged();
+        crossoverInto(parentA, parentB, target);
+    }
+    
+    /**
+     * Mutates the target in place, adding the positions it overwrites to the changes. Only used when the
+     * optimizer is also an {@link IncrementalOptimizer}.
+     */
+    default void mutateInPlace(E target, double mutationRate, GeneChanges changes) {
+        changes.markAllChanged();
+        mutateInPlace(target, mutationRate);
+    }
+}
@@ -0,0 +1,41 @@
+package com.slethron.geneticoptimization;
+
+/**
+ * An optional extension of {@link GeneticOptimizer} for problems that can update a parent's score from the few
+ * genes its child changed. When the optimizer implements it, {@link GenerationalEngine} breeds each child
+ * through the operator overloads that report changes relative to the child's first parent, and scores the child
+ * with {@link #fitness(Object, Object, double, GeneChanges)} using that parent's stored score.
+ *
+ * <p>The reporting overloads default to the plain operators and mark every gene as changed, in which case the
+ * child is scored with {@link #fitness(Object)}. In-place problems report through the overloads on
+ * {@link InPlaceOptimizer} instead.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public interface IncrementalOptimizer<E> extends GeneticOptimizer<E> {
+    default E generateIndividualFromParents(E parentA, E parentB, GeneChanges changes) {
+        changes.markAllChanged();
+        return generateIndividualFromParents(parentA, parentB);
+    }
+    
+    /**
+     * Mutates an individual, adding the positions that differ from the given individual to the changes.
+     */
+    default E mutate(E individual, double mutationRate, GeneChanges changes) {
+        changes.markAllChanged();
+        return mutate(individual, mutationRate);
+    }
+    
+    /**
+     * Scores an individual from the score of a reference individual it only differs from at the recorded
+     * positions. Implementations may fall back to {@link #fitness(Object)} when the changes are too many for an
+     * update to pay off.
+     *
+     * @param individual         The individual to score
+     * @param reference          The individual the changes are relative to
+     * @param referenceFitness   The score of the reference individual
+     * @param changes            The positions at which the individual may differ from the reference
+     * @return The score of the individual, equal to what {@link #fitness(Object)} would return
+     */
+    double fitness(E individual, E reference, double referenceFitness, GeneChanges changes);
+}
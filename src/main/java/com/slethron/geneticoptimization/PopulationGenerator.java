@@ -1,7 +1,47 @@
 package com.slethron.geneticoptimization;
 
+import com.slethron.geneticoptimization.util.ExecutionContext;
+import com.slethron.geneticoptimization.util.RandomProvider;
+
+import java.util.ArrayList;
 import java.util.List;
 
 public abstract class PopulationGenerator<E> {
-    public abstract List<E> generateInitialPopulation(int populationSize);
+    public List<E> generateInitialPopulation(int populationSize) {
+        return generateInitialPopulation(populationSize, new RandomProvider());
+    }
+    
+    public List<E> generateInitialPopulation(int populationSize, RandomProvider random) {
+        return generateInitialPopulation(populationSize, random, ExecutionContext.commonPool());
+    }
+    
+    /**
+     * Generates an initial population in parallel, binding each slot to its own random stream so the same
+     * provider seed always produces the same population.
+     *
+     * @param populationSize The number of individuals to generate
+     * @param random         The provider of the random streams
+     * @param execution      The threads the individuals are generated on
+     * @return The generated population
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> generateInitialPopulation(int populationSize, RandomProvider random, ExecutionContext execution) {
+        var individuals = new Object[populationSize];
+        execution.forEach(0, populationSize, i -> {
+            random.bind(RandomProvider.INITIAL_POPULATION_STREAM, i);
+            individuals[i] = generateIndividual();
+        });
+        
+        var population = new ArrayList<E>(populationSize);
+        for (var individual : individuals) {
+            population.add((E) individual);
+        }
+        
+        return population;
+    }
+    
+    /**
+     * Generates one random individual, drawing randomness from {@link RandomProvider#current()}.
+     */
+    protected abstract E generateIndividual();
 }
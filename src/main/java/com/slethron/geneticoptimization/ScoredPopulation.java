@@ -0,0 +1,342 @@
+package com.slethron.geneticoptimization;
+
+import com.slethron.geneticoptimization.util.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A population in which every individual is stored next to its fitness score. The score of an individual is
+ * computed exactly once when it is placed into the population, so ordering, selection and termination checks
+ * only ever read the stored value.
+ *
+ * @param <E> The type of the individuals in the population
+ */
+public class ScoredPopulation<E> {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int MIN_SELECTION_CHUNK_SIZE = 4096;
+
+    private Object[] individuals;
+    private double[] fitness;
+    private boolean maximizing;
+    private double[] selectionScratch;
+    private int[] selection;
+    private int[] otherSelection;
+
+    public ScoredPopulation(int size, boolean maximizing) {
+        individuals = new Object[size];
+        fitness = new double[size];
+        this.maximizing = maximizing;
+    }
+
+    public int size() {
+        return individuals.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        return (E) individuals[index];
+    }
+
+    public double getFitness(int index) {
+        return fitness[index];
+    }
+
+    public void set(int index, E individual, double fitness) {
+        individuals[index] = individual;
+        this.fitness[index] = fitness;
+    }
+
+    public boolean isMaximizing() {
+        return maximizing;
+    }
+
+    /**
+     * Compares two fitness values in the direction of this population, such that a negative result means the
+     * first value is the fitter one.
+     */
+    public int compareFitness(double a, double b) {
+        return maximizing ? Double.compare(b, a) : Double.compare(a, b);
+    }
+
+    public int fittestIndex() {
+        var fittest = 0;
+        for (var i = 1; i < fitness.length; i++) {
+            if (compareFitness(fitness[i], fitness[fittest]) < 0) {
+                fittest = i;
+            }
+        }
+
+        return fittest;
+    }
+
+    public int leastFitIndex() {
+        var leastFit = 0;
+        for (var i = 1; i < fitness.length; i++) {
+            if (compareFitness(fitness[i], fitness[leastFit]) > 0) {
+                leastFit = i;
+            }
+        }
+
+        return leastFit;
+    }
+
+    /**
+     * Finds the indices of the fittest individuals without ordering the population. The cutoff score is found by
+     * a quickselect over the stored scores, after which the population is scanned in parallel chunks that each
+     * gather the individuals fitter than the cutoff. Individuals tied with the cutoff fill the remaining places
+     * in index order.
+     *
+     * @param count The number of individuals to select
+     * @return The indices of the selected individuals, in no particular order of fitness. The array is reused
+     * by later calls on this population that select the same number of individuals.
+     */
+    public int[] selectFittest(int count) {
+        return selectFittest(count, ExecutionContext.commonPool());
+    }
+
+    /**
+     * Finds the indices of the fittest individuals as {@link #selectFittest(int)} does, scanning the population
+     * in chunks of at least the context's grain size on the context's threads.
+     */
+    public int[] selectFittest(int count, ExecutionContext execution) {
+        var size = size();
+        if (count <= 0 || count > size) {
+            throw new IllegalArgumentException("Can only select between 1 and " + size + " individuals.");
+        }
+
+        var selected = selectionBuffer(count);
+        if (count == size) {
+            for (var i = 0; i < size; i++) {
+                selected[i] = i;
+            }
+            return selected;
+        }
+
+        if (selectionScratch == null) {
+            selectionScratch = new double[size];
+        }
+        var keys = selectionScratch;
+        for (var i = 0; i < size; i++) {
+            keys[i] = maximizing ? -fitness[i] : fitness[i];
+        }
+        var cutoff = quickselect(keys, count - 1);
+        var threshold = maximizing ? 0.0 - cutoff : cutoff;
+
+        var chunkSize = Math.max(MIN_SELECTION_CHUNK_SIZE, execution.grainSize(size));
+        var chunks = (size + chunkSize - 1) / chunkSize;
+        var fitterCounts = new int[chunks];
+        var tiedCounts = new int[chunks];
+        execution.forEachChunk(0, size, chunkSize, (from, to) -> {
+            var chunk = from / chunkSize;
+            for (var i = from; i < to; i++) {
+                var comparison = compareFitness(fitness[i], threshold);
+                if (comparison < 0) {
+                    fitterCounts[chunk]++;
+                } else if (comparison == 0) {
+                    tiedCounts[chunk]++;
+                }
+            }
+        });
+
+        // Turn the per-chunk counts into write offsets, handing out the remaining places to ties in chunk order
+        var fitterOffsets = new int[chunks];
+        var tiedOffsets = new int[chunks];
+        var fitterTotal = 0;
+        for (var chunk = 0; chunk < chunks; chunk++) {
+            fitterOffsets[chunk] = fitterTotal;
+            fitterTotal += fitterCounts[chunk];
+        }
+        var tiedTotal = fitterTotal;
+        for (var chunk = 0; chunk < chunks; chunk++) {
+            tiedOffsets[chunk] = tiedTotal;
+            tiedCounts[chunk] = Math.min(tiedCounts[chunk], count - tiedTotal);
+            tiedTotal += tiedCounts[chunk];
+        }
+
+        execution.forEachChunk(0, size, chunkSize, (from, to) -> {
+            var chunk = from / chunkSize;
+            var fitterOffset = fitterOffsets[chunk];
+            var tiedOffset = tiedOffsets[chunk];
+            var tiedLimit = tiedOffset + tiedCounts[chunk];
+            for (var i = from; i < to; i++) {
+                var comparison = compareFitness(fitness[i], threshold);
+                if (comparison < 0) {
+                    selected[fitterOffset++] = i;
+                } else if (comparison == 0 && tiedOffset < tiedLimit) {
+                    selected[tiedOffset++] = i;
+                }
+            }
+        });
+
+        return selected;
+    }
+
+    /**
+     * Returns a reusable array for selecting the given number of individuals. The two counts selected most
+     * recently each keep their own array, so alternating between an elite and a parent pool never allocates.
+     */
+    private int[] selectionBuffer(int count) {
+        if (selection == null || selection.length != count) {
+            var other = otherSelection;
+            otherSelection = selection;
+            selection = other != null && other.length == count ? other : new int[count];
+        }
+
+        return selection;
+    }
+
+    /**
+     * Moves the fittest individuals to the front of the population and orders only that slice from fittest to
+     * least fit. The remainder of the population is left in no particular order.
+     *
+     * @param count The number of leading individuals to order
+     */
+    public void sortFittest(int count) {
+        sortFittest(count, ExecutionContext.commonPool());
+    }
+
+    /**
+     * Orders the fittest individuals as {@link #sortFittest(int)} does, finding them on the context's threads.
+     */
+    public void sortFittest(int count, ExecutionContext execution) {
+        if (count >= size()) {
+            sort();
+            return;
+        }
+
+        var isSelected = new boolean[size()];
+        for (var index : selectFittest(count, execution)) {
+            isSelected[index] = true;
+        }
+
+        var j = count;
+        for (var i = 0; i < count; i++) {
+            if (!isSelected[i]) {
+                while (!isSelected[j]) {
+                    j++;
+                }
+                swap(i, j++);
+            }
+        }
+
+        sort(0, count);
+    }
+
+    /**
+     * Finds the k-th smallest value using a three-way partitioning quickselect, which stays linear on the
+     * heavily duplicated scores of a converged population. The array is reordered in the process.
+     */
+    private static double quickselect(double[] values, int k) {
+        var from = 0;
+        var to = values.length - 1;
+        while (from < to) {
+            var pivot = medianOf(values[from], values[from + (to - from) / 2], values[to]);
+            var lessThan = from;
+            var greaterThan = to;
+            var i = from;
+            while (i <= greaterThan) {
+                if (values[i] < pivot) {
+                    swap(values, lessThan++, i++);
+                } else if (values[i] > pivot) {
+                    swap(values, i, greaterThan--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lessThan) {
+                to = lessThan - 1;
+            } else if (k > greaterThan) {
+                from = greaterThan + 1;
+            } else {
+                return pivot;
+            }
+        }
+
+        return values[k];
+    }
+
+    private static double medianOf(double a, double b, double c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void swap(double[] values, int i, int j) {
+        var value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    /**
+     * Orders the population from the fittest to the least fit individual by the stored scores.
+     */
+    public void sort() {
+        sort(0, size());
+    }
+
+    void sort(int from, int to) {
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            var pivot = fitness[medianOfThree(from, from + (to - from) / 2, to - 1)];
+            var i = from;
+            var j = to - 1;
+            while (i <= j) {
+                while (compareFitness(fitness[i], pivot) < 0) {
+                    i++;
+                }
+                while (compareFitness(fitness[j], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+
+            // Recurse into the smaller half so the stack depth stays logarithmic
+            if (j - from < to - i) {
+                sort(from, j + 1);
+                from = i;
+            } else {
+                sort(i, to);
+                to = j + 1;
+            }
+        }
+
+        for (var i = from + 1; i < to; i++) {
+            for (var j = i; j > from && compareFitness(fitness[j], fitness[j - 1]) < 0; j--) {
+                swap(j, j - 1);
+            }
+        }
+    }
+
+    private int medianOfThree(int a, int b, int c) {
+        if (compareFitness(fitness[a], fitness[b]) < 0) {
+            if (compareFitness(fitness[b], fitness[c]) < 0) {
+                return b;
+            }
+            return compareFitness(fitness[a], fitness[c]) < 0 ? c : a;
+        }
+        if (compareFitness(fitness[a], fitness[c]) < 0) {
+            return a;
+        }
+        return compareFitness(fitness[b], fitness[c]) < 0 ? c : b;
+    }
+
+    void swap(int i, int j) {
+        var individual = individuals[i];
+        individuals[i] = individuals[j];
+        individuals[j] = individual;
+
+        var score = fitness[i];
+        fitness[i] = fitness[j];
+        fitness[j] = score;
+    }
+
+    public List<E> toList() {
+        var list = new ArrayList<E>(size());
+        for (var i = 0; i < size(); i++) {
+            list.add(get(i));
+        }
+
+        return list;
+    }
+}
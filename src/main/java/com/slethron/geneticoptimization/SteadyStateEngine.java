@@ -0,0 +1,340 @@
+package com.slethron.geneticoptimization;
+
+import com.slethron.geneticoptimization.anytime.Improvement;
+import com.slethron.geneticoptimization.anytime.ImprovementListener;
+import com.slethron.geneticoptimization.termination.EvolutionProgress;
+import com.slethron.geneticoptimization.termination.TerminationCriterion;
+import com.slethron.geneticoptimization.util.RandomProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Evolves a single shared population without generations. Worker threads each repeatedly draw two parents by
+ * tournament, breed and score a child, and let it replace the least fit individual of a second tournament if the
+ * child is at least as fit. No worker ever waits for another, so a slow fitness call only holds up its own
+ * thread.
+ *
+ * <p>Every slot holds an immutable pair of an individual and its score, and is replaced with a compare-and-set,
+ * so a replacement never overwrites a slot that another worker changed since it was read. Children are always
+ * new individuals, since other workers may still be reading the parents they were bred from.
+ *
+ * <p>A run ends once its evaluation budget is spent, an individual reaches its target fitness or its termination
+ * criterion is met, whichever comes first. At least one of the three must be set. The criterion sees one
+ * generation pass for every population's worth of evaluations.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public class SteadyStateEngine<E> {
+    private GeneticOptimizer<E> optimizer;
+    private InPlaceOptimizer<E> inPlaceOptimizer;
+    private IncrementalOptimizer<E> incrementalOptimizer;
+    private RandomProvider random;
+    private boolean maximizing;
+    private int threads;
+    private int tournamentSize;
+    private long evaluationBudget;
+    private boolean hasTargetFitness;
+    private double targetFitness;
+    private TerminationCriterion termination;
+    private List<ImprovementListener<E>> listeners;
+    private EvolutionProgress progress;
+    private AtomicLong evaluations;
+
+    public SteadyStateEngine(GeneticOptimizer<E> optimizer) {
+        this(optimizer, new RandomProvider());
+    }
+
+    public SteadyStateEngine(GeneticOptimizer<E> optimizer, RandomProvider random) {
+        this.optimizer = optimizer;
+        this.random = random;
+        maximizing = optimizer.isMaximizing();
+        threads = Runtime.getRuntime().availableProcessors();
+        tournamentSize = 2;
+        evaluationBudget = Long.MAX_VALUE;
+        evaluations = new AtomicLong();
+        listeners = new ArrayList<>();
+        if (optimizer instanceof InPlaceOptimizer) {
+            inPlaceOptimizer = (InPlaceOptimizer<E>) optimizer;
+        }
+        if (optimizer instanceof IncrementalOptimizer) {
+            incrementalOptimizer = (IncrementalOptimizer<E>) optimizer;
+        }
+    }
+
+    public SteadyStateEngine<E> withThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("A steady-state engine needs at least one worker thread.");
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    public SteadyStateEngine<E> withTournamentSize(int tournamentSize) {
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("Tournament size must be at least one.");
+        }
+        this.tournamentSize = tournamentSize;
+        return this;
+    }
+
+    /**
+     * @param evaluationBudget The number of fitness evaluations after which the run ends, including those of
+     *                         the initial population
+     * @return This engine
+     */
+    public SteadyStateEngine<E> withEvaluationBudget(long evaluationBudget) {
+        this.evaluationBudget = evaluationBudget;
+        return this;
+    }
+
+    /**
+     * Ends the run as soon as an individual at least as fit as the target has been bred.
+     *
+     * @return This engine
+     */
+    public SteadyStateEngine<E> withTargetFitness(double targetFitness) {
+        hasTargetFitness = true;
+        this.targetFitness = targetFitness;
+        return this;
+    }
+
+    /**
+     * Ends the run once the criterion is met, checked each time the run has performed another population's
+     * worth of evaluations.
+     *
+     * @return This engine
+     */
+    public SteadyStateEngine<E> withTermination(TerminationCriterion termination) {
+        this.termination = termination;
+        return this;
+    }
+
+    /**
+     * Adds a listener that is told about every new best individual, checked each time the run has performed
+     * another population's worth of evaluations. Listeners are called on a worker thread.
+     *
+     * @return This engine
+     */
+    public SteadyStateEngine<E> withImprovementListener(ImprovementListener<E> listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Returns the number of fitness evaluations the last run has performed so far.
+     */
+    public long getEvaluations() {
+        return Math.min(evaluations.get(), evaluationBudget);
+    }
+
+    /**
+     * Evolves a population until the evaluation budget is spent, the target fitness is reached or the termination
+     * criterion is met.
+     *
+     * @param population   The initial population
+     * @param mutationRate The probability of mutating each gene of a child
+     * @return The final population, ordered from the fittest to the least fit individual
+     */
+    public List<E> optimize(List<E> population, double mutationRate) {
+        if (!hasTargetFitness && evaluationBudget == Long.MAX_VALUE && termination == null) {
+            throw new IllegalStateException("A steady-state run needs an evaluation budget, a target fitness or a "
+                    + "termination criterion.");
+        }
+
+        var initial = new GenerationalEngine<>(optimizer, random).evaluate(population);
+        var slots = new AtomicReferenceArray<Scored<E>>(initial.size());
+        for (var i = 0; i < initial.size(); i++) {
+            slots.set(i, new Scored<>(initial.get(i), initial.getFitness(i)));
+        }
+        evaluations.set(initial.size());
+        var initialFittest = initial.fittestIndex();
+        var initialBest = initial.getFitness(initialFittest);
+        progress = new EvolutionProgress(maximizing);
+        progress.update(0, initial.size(), initialBest);
+        publishImprovement(new Scored<>(initial.get(initialFittest), initialBest));
+        var stopped = new AtomicBoolean(hasTargetFitness && reachesTarget(initialBest)
+                || termination != null && termination.isMet(progress));
+
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var futures = new ArrayList<Future<?>>(threads);
+            for (var worker = 0; worker < threads; worker++) {
+                var stream = Long.MIN_VALUE + worker;
+                futures.add(executor.submit(() -> work(slots, stopped, stream, mutationRate)));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            stopped.set(true);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("A steady-state worker failed.", e.getCause());
+        } catch (InterruptedException e) {
+            stopped.set(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the steady-state workers.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var result = new ScoredPopulation<E>(slots.length(), maximizing);
+        for (var i = 0; i < slots.length(); i++) {
+            var scored = slots.get(i);
+            result.set(i, scored.individual, scored.fitness);
+        }
+        result.sort();
+
+        return result.toList();
+    }
+
+    /**
+     * Breeds children until the run ends. Each worker draws from its own stream of the engine's provider,
+     * numbered far below the generation streams of {@link GenerationalEngine}.
+     */
+    private void work(AtomicReferenceArray<Scored<E>> slots, AtomicBoolean stopped, long stream,
+                      double mutationRate) {
+        var random = this.random.bind(stream, 0);
+        var changes = incrementalOptimizer != null ? new GeneChanges() : null;
+        while (!stopped.get()) {
+            var evaluation = evaluations.getAndIncrement();
+            if (evaluation >= evaluationBudget) {
+                return;
+            }
+            var parentA = slots.get(tournament(slots, random, true));
+            var parentB = slots.get(tournament(slots, random, true));
+
+            E child;
+            if (changes != null) {
+                changes.clear();
+            }
+            if (inPlaceOptimizer != null) {
+                child = inPlaceOptimizer.copy(parentA.individual);
+                if (changes != null) {
+                    inPlaceOptimizer.crossoverInto(parentA.individual, parentB.individual, child, changes);
+                    inPlaceOptimizer.mutateInPlace(child, mutationRate, changes);
+                } else {
+                    inPlaceOptimizer.crossoverInto(parentA.individual, parentB.individual, child);
+                    inPlaceOptimizer.mutateInPlace(child, mutationRate);
+                }
+            } else if (changes != null) {
+                child = incrementalOptimizer.generateIndividualFromParents(
+                        parentA.individual, parentB.individual, changes);
+                child = incrementalOptimizer.mutate(child, mutationRate, changes);
+            } else {
+                child = optimizer.generateIndividualFromParents(parentA.individual, parentB.individual);
+                child = optimizer.mutate(child, mutationRate);
+            }
+
+            double fitness;
+            if (changes != null && !changes.isAllChanged()) {
+                fitness = incrementalOptimizer.fitness(child, parentA.individual, parentA.fitness, changes);
+            } else {
+                fitness = optimizer.fitness(child);
+            }
+
+            replace(slots, random, new Scored<>(child, fitness));
+            if (hasTargetFitness && reachesTarget(fitness)) {
+                stopped.set(true);
+            }
+            if ((termination != null || !listeners.isEmpty()) && (evaluation + 1) % slots.length() == 0) {
+                checkProgress(slots, evaluation + 1, stopped);
+            }
+        }
+    }
+
+    private void checkProgress(AtomicReferenceArray<Scored<E>> slots, long evaluations, AtomicBoolean stopped) {
+        var best = slots.get(0);
+        for (var i = 1; i < slots.length(); i++) {
+            var scored = slots.get(i);
+            if (compareFitness(scored.fitness, best.fitness) < 0) {
+                best = scored;
+            }
+        }
+
+        synchronized (progress) {
+            var generation = evaluations / slots.length() - 1;
+            if (generation > progress.getGeneration()) {
+                if (progress.update(generation, evaluations, best.fitness)) {
+                    publishImprovement(best);
+                }
+                if (termination != null && termination.isMet(progress)) {
+                    stopped.set(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells the listeners about a new best individual. Individuals in the population are never changed once
+     * placed, so the listeners receive it without a copy.
+     */
+    private void publishImprovement(Scored<E> best) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+
+        var improvement = new Improvement<>(progress.getGeneration(), best.individual, best.fitness,
+                progress.getElapsedNanos());
+        for (var listener : listeners) {
+            listener.onImprovement(improvement);
+        }
+    }
+
+    private void replace(AtomicReferenceArray<Scored<E>> slots, Random random, Scored<E> child) {
+        var slot = tournament(slots, random, false);
+        while (true) {
+            var current = slots.get(slot);
+            if (compareFitness(child.fitness, current.fitness) > 0
+                    || slots.compareAndSet(slot, current, child)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Samples slots at random and returns the fittest of them, or the least fit when not looking for a parent.
+     */
+    private int tournament(AtomicReferenceArray<Scored<E>> slots, Random random, boolean fittest) {
+        var winner = random.nextInt(slots.length());
+        var winnerFitness = slots.get(winner).fitness;
+        for (var i = 1; i < tournamentSize; i++) {
+            var contender = random.nextInt(slots.length());
+            var contenderFitness = slots.get(contender).fitness;
+            var comparison = compareFitness(contenderFitness, winnerFitness);
+            if (fittest ? comparison < 0 : comparison > 0) {
+                winner = contender;
+                winnerFitness = contenderFitness;
+            }
+        }
+
+        return winner;
+    }
+
+    private boolean reachesTarget(double fitness) {
+        return compareFitness(fitness, targetFitness) <= 0;
+    }
+
+    private int compareFitness(double a, double b) {
+        return maximizing ? Double.compare(b, a) : Double.compare(a, b);
+    }
+
+    private static class Scored<E> {
+        private final E individual;
+        private final double fitness;
+
+        private Scored(E individual, double fitness) {
+            this.individual = individual;
+            this.fitness = fitness;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.slethron.geneticoptimization.anytime;
+
+/**
+ * A new best individual found by a running optimization.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public class Improvement<E> {
+    private long generation;
+    private E individual;
+    private double fitness;
+    private long elapsedNanos;
+    
+    public Improvement(long generation, E individual, double fitness, long elapsedNanos) {
+        this.generation = generation;
+        this.individual = individual;
+        this.fitness = fitness;
+        this.elapsedNanos = elapsedNanos;
+    }
+    
+    /**
+     * Returns the generation of the run in which the individual was found, where 0 is the initial population.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+    
+    /**
+     * Returns the new best individual, which the engine never changes afterwards. Individuals of an
+     * {@link com.slethron.geneticoptimization.InPlaceOptimizer} are copied before they are published; any other
+     * individual is shared with the running population and must not be modified by the receiver.
+     */
+    public E getIndividual() {
+        return individual;
+    }
+    
+    public double getFitness() {
+        return fitness;
+    }
+    
+    /**
+     * Returns the time since the run started.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return "generation=" + generation + ", fitness=" + fitness + ", elapsedNanos=" + elapsedNanos;
+    }
+}
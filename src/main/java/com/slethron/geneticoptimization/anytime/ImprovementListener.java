@@ -0,0 +1,13 @@
+package com.slethron.geneticoptimization.anytime;
+
+/**
+ * Receives every new best individual of a run. Listeners are called on the thread that drives the run, between
+ * generations, so they must return quickly; an {@link ImprovementPublisher} hands improvements on to consumers
+ * that may be slow.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+@FunctionalInterface
+public interface ImprovementListener<E> {
+    void onImprovement(Improvement<E> improvement);
+}
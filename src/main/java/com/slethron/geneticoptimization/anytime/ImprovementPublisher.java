@@ -0,0 +1,62 @@
+package com.slethron.geneticoptimization.anytime;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the improvements of a run to {@link Flow.Subscriber}s without ever making the run wait for them.
+ * Each subscriber is delivered to on the publisher's executor from its own buffer, and an improvement that
+ * finds a subscriber's buffer full is dropped for that subscriber. A subscriber that falls behind therefore
+ * misses improvements, but always receives newer ones once it catches up.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public class ImprovementPublisher<E> implements ImprovementListener<E>, Flow.Publisher<Improvement<E>>,
+        AutoCloseable {
+    private SubmissionPublisher<Improvement<E>> publisher;
+    private LongAdder dropped;
+    
+    public ImprovementPublisher() {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+    
+    /**
+     * @param executor       The executor subscribers are delivered to on
+     * @param bufferCapacity The number of undelivered improvements kept per subscriber
+     */
+    public ImprovementPublisher(Executor executor, int bufferCapacity) {
+        publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+        dropped = new LongAdder();
+    }
+    
+    @Override
+    public void onImprovement(Improvement<E> improvement) {
+        publisher.offer(improvement, (subscriber, item) -> {
+            dropped.increment();
+            return false;
+        });
+    }
+    
+    @Override
+    public void subscribe(Flow.Subscriber<? super Improvement<E>> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+    
+    /**
+     * Returns the number of deliveries dropped because a subscriber's buffer was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    /**
+     * Completes every subscriber once it has received the improvements already in its buffer.
+     */
+    @Override
+    public void close() {
+        publisher.close();
+    }
+}
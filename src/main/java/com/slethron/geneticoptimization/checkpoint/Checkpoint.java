@@ -0,0 +1,149 @@
+package com.slethron.geneticoptimization.checkpoint;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.codec.GenomeCodec;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The state of a generational run after some generation: the scored population, the master seed of the run's
+ * {@link com.slethron.geneticoptimization.util.RandomProvider}, the engine's generation and evaluation counters
+ * and the best score so far with the generation it was reached in. Since every random stream is derived from the
+ * seed and the generation alone, an engine resumed from a checkpoint breeds the same generations the original
+ * run would have, and its termination criterion sees the same stagnation.
+ *
+ * <p>A checkpoint file starts with a fixed header, followed by every score as a double and then every individual
+ * as written by a {@link GenomeCodec}.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public class Checkpoint<E> {
+    static final int MAGIC = 0x47414350;
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 8 + 8 + 8 + 1 + 4;
+
+    private long seed;
+    private long generation;
+    private long evaluations;
+    private double bestFitness;
+    private long lastImprovement;
+    private ScoredPopulation<E> population;
+
+    public Checkpoint(long seed, long generation, long evaluations, double bestFitness, long lastImprovement,
+                      ScoredPopulation<E> population) {
+        this.seed = seed;
+        this.generation = generation;
+        this.evaluations = evaluations;
+        this.bestFitness = bestFitness;
+        this.lastImprovement = lastImprovement;
+        this.population = population;
+    }
+
+    /**
+     * Reads a checkpoint file by mapping it into memory.
+     *
+     * @param path  The checkpoint file
+     * @param codec The codec the individuals were written with
+     * @return The checkpoint stored in the file
+     */
+    public static <E> Checkpoint<E> read(Path path, GenomeCodec<E> codec) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException(path + " is not a checkpoint.");
+            }
+            var version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkpoint version " + version + ".");
+            }
+            var seed = buffer.getLong();
+            var generation = buffer.getLong();
+            var evaluations = buffer.getLong();
+            var bestFitness = buffer.getDouble();
+            var lastImprovement = buffer.getLong();
+            var maximizing = buffer.get() != 0;
+            var size = buffer.getInt();
+            if (size < 0 || buffer.remaining() / Double.BYTES < size) {
+                throw new IOException("Checkpoint " + path + " is truncated.");
+            }
+
+            var fitness = new double[size];
+            buffer.asDoubleBuffer().get(fitness);
+            buffer.position(buffer.position() + size * Double.BYTES);
+
+            var in = new DataInputStream(new ByteBufferInputStream(buffer));
+            var population = new ScoredPopulation<E>(size, maximizing);
+            for (var i = 0; i < size; i++) {
+                population.set(i, codec.decode(in), fitness[i]);
+            }
+
+            return new Checkpoint<>(seed, generation, evaluations, bestFitness, lastImprovement, population);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of generations the engine had bred when the checkpoint was taken.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Returns the best score the run had seen, which may be fitter than any score of the population.
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Returns the generation in which the best score was first reached.
+     */
+    public long getLastImprovement() {
+        return lastImprovement;
+    }
+
+    public ScoredPopulation<E> getPopulation() {
+        return population;
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            length = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, length);
+            return length;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.slethron.geneticoptimization.checkpoint;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.codec.GenomeCodec;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Writes checkpoints of a generational run to a file on a background thread. Taking a checkpoint copies
+ * nothing: the engine hands over the population it just bred and, for as long as the checkpoint is being
+ * written, breeds into fresh populations instead of recycling that one. The generation loop therefore only
+ * pauses for the hand-over, however large the population.
+ *
+ * <p>Each checkpoint is written to a temporary file next to the target and then moved over it, so the file
+ * always holds the last complete checkpoint. A checkpoint offered while the previous one is still being
+ * written is skipped.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public class Checkpointer<E> implements Closeable {
+    private static final int FITNESS_CHUNK_SIZE = 8192;
+
+    private Path path;
+    private GenomeCodec<E> codec;
+    private int interval;
+    private ExecutorService writer;
+    private Future<?> pending;
+    private volatile ScoredPopulation<E> writing;
+    private volatile IOException failure;
+    private long checkpointCount;
+
+    /**
+     * @param path  The file checkpoints are written to
+     * @param codec The codec individuals are written with
+     */
+    public Checkpointer(Path path, GenomeCodec<E> codec) {
+        this.path = path;
+        this.codec = codec;
+        interval = 100;
+        writer = Executors.newSingleThreadExecutor(task -> {
+            var thread = new Thread(task, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param interval The number of generations between checkpoints
+     * @return This checkpointer
+     */
+    public Checkpointer<E> withInterval(int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be at least one generation.");
+        }
+        this.interval = interval;
+        return this;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Returns the number of checkpoints written so far.
+     */
+    public synchronized long getCheckpointCount() {
+        return checkpointCount;
+    }
+
+    /**
+     * Starts writing a checkpoint in the background, unless the previous one is still being written. The
+     * checkpoint's population must not be changed until {@link #holds(ScoredPopulation)} no longer reports it.
+     *
+     * @return Whether the checkpoint was taken
+     * @throws UncheckedIOException If writing the previous checkpoint failed
+     */
+    public synchronized boolean offer(Checkpoint<E> checkpoint) {
+        rethrowFailure();
+        if (pending != null && !pending.isDone()) {
+            return false;
+        }
+
+        writing = checkpoint.getPopulation();
+        pending = writer.submit(() -> {
+            try {
+                write(checkpoint);
+                synchronized (this) {
+                    checkpointCount++;
+                }
+            } catch (IOException e) {
+                failure = e;
+            } finally {
+                writing = null;
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * Returns whether a checkpoint of the population is still being written.
+     */
+    public boolean holds(ScoredPopulation<?> population) {
+        return population != null && writing == population;
+    }
+
+    /**
+     * Waits until the checkpoint being written, if any, is on disk.
+     *
+     * @throws UncheckedIOException If writing a checkpoint failed
+     */
+    public void await() {
+        Future<?> pending;
+        synchronized (this) {
+            pending = this.pending;
+        }
+
+        if (pending != null) {
+            try {
+                pending.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Checkpoint writer failed.", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a checkpoint.", e);
+            }
+        }
+        rethrowFailure();
+    }
+
+    /**
+     * Waits for the checkpoint being written and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        try {
+            await();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void rethrowFailure() {
+        var failure = this.failure;
+        if (failure != null) {
+            this.failure = null;
+            throw new UncheckedIOException("Could not write checkpoint to " + path + ".", failure);
+        }
+    }
+
+    private void write(Checkpoint<E> checkpoint) throws IOException {
+        var population = checkpoint.getPopulation();
+        var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            var header = ByteBuffer.allocate(Checkpoint.HEADER_BYTES)
+                    .putInt(Checkpoint.MAGIC)
+                    .putInt(Checkpoint.VERSION)
+                    .putLong(checkpoint.getSeed())
+                    .putLong(checkpoint.getGeneration())
+                    .putLong(checkpoint.getEvaluations())
+                    .putDouble(checkpoint.getBestFitness())
+                    .putLong(checkpoint.getLastImprovement())
+                    .put((byte) (population.isMaximizing() ? 1 : 0))
+                    .putInt(population.size());
+            writeFully(channel, header.flip());
+
+            var fitness = ByteBuffer.allocate(FITNESS_CHUNK_SIZE * Double.BYTES);
+            for (var from = 0; from < population.size(); from += FITNESS_CHUNK_SIZE) {
+                fitness.clear();
+                var to = Math.min(population.size(), from + FITNESS_CHUNK_SIZE);
+                for (var i = from; i < to; i++) {
+                    fitness.putDouble(population.getFitness(i));
+                }
+                writeFully(channel, fitness.flip());
+            }
+
+            var out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            for (var i = 0; i < population.size(); i++) {
+                codec.encode(population.get(i), out);
+            }
+            out.flush();
+            channel.force(true);
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
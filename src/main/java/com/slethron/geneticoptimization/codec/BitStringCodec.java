@@ -0,0 +1,30 @@
+package com.slethron.geneticoptimization.codec;
+
+import com.slethron.geneticoptimization.domain.BitString;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes a bit string as its length followed by its 64-bit words.
+ */
+public class BitStringCodec implements GenomeCodec<BitString> {
+    @Override
+    public void encode(BitString individual, DataOutput out) throws IOException {
+        out.writeInt(individual.length());
+        for (var i = 0; i < individual.wordCount(); i++) {
+            out.writeLong(individual.getWord(i));
+        }
+    }
+    
+    @Override
+    public BitString decode(DataInput in) throws IOException {
+        var bitString = new BitString(in.readInt());
+        for (var i = 0; i < bitString.wordCount(); i++) {
+            bitString.setWord(i, in.readLong());
+        }
+        
+        return bitString;
+    }
+}
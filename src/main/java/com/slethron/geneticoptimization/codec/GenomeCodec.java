@@ -0,0 +1,18 @@
+package com.slethron.geneticoptimization.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes individuals to and reads them from a compact binary form, for handing them between processes or
+ * storing them on disk. An encoded individual carries everything needed to decode it, so individuals can be
+ * written back to back into one stream.
+ *
+ * @param <E> The type of the individuals being encoded
+ */
+public interface GenomeCodec<E> {
+    void encode(E individual, DataOutput out) throws IOException;
+    
+    E decode(DataInput in) throws IOException;
+}
@@ -0,0 +1,50 @@
+package com.slethron.geneticoptimization.codec;
+
+import com.slethron.geneticoptimization.domain.Knapsack;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes a knapsack as its maximum weight followed by the words of its held catalog indices, up to the last
+ * non-empty word. Decoded knapsacks hold items of the catalog the codec was created for, which must be the one
+ * the encoded knapsack was filled from.
+ */
+public class KnapsackCodec implements GenomeCodec<Knapsack> {
+    private Knapsack.ItemCatalog catalog;
+    
+    public KnapsackCodec(Knapsack.ItemCatalog catalog) {
+        this.catalog = catalog;
+    }
+    
+    @Override
+    public void encode(Knapsack individual, DataOutput out) throws IOException {
+        var words = individual.wordCount();
+        while (words > 0 && individual.getWord(words - 1) == 0) {
+            words--;
+        }
+        
+        out.writeInt(individual.getMaxWeight());
+        out.writeInt(words);
+        for (var word = 0; word < words; word++) {
+            out.writeLong(individual.getWord(word));
+        }
+    }
+    
+    @Override
+    public Knapsack decode(DataInput in) throws IOException {
+        var knapsack = new Knapsack(in.readInt(), catalog);
+        var words = in.readInt();
+        for (var word = 0; word < words; word++) {
+            for (var bits = in.readLong(); bits != 0; bits &= bits - 1) {
+                var index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (index >= catalog.size() || !knapsack.put(index)) {
+                    throw new IOException("Encoded knapsack does not match the item catalog.");
+                }
+            }
+        }
+        
+        return knapsack;
+    }
+}
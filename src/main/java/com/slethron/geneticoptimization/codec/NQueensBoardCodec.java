@@ -0,0 +1,45 @@
+package com.slethron.geneticoptimization.codec;
+
+import com.slethron.geneticoptimization.domain.NQueensBoard;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes a board as its size followed by the row of each queen, written in as few bytes as the size allows.
+ */
+public class NQueensBoardCodec implements GenomeCodec<NQueensBoard> {
+    @Override
+    public void encode(NQueensBoard individual, DataOutput out) throws IOException {
+        var n = individual.length();
+        out.writeInt(n);
+        for (var column = 0; column < n; column++) {
+            var row = individual.get(column);
+            if (n <= 1 << Byte.SIZE) {
+                out.writeByte(row);
+            } else if (n <= 1 << Short.SIZE) {
+                out.writeShort(row);
+            } else {
+                out.writeInt(row);
+            }
+        }
+    }
+    
+    @Override
+    public NQueensBoard decode(DataInput in) throws IOException {
+        var n = in.readInt();
+        var board = new int[n];
+        for (var column = 0; column < n; column++) {
+            if (n <= 1 << Byte.SIZE) {
+                board[column] = in.readUnsignedByte();
+            } else if (n <= 1 << Short.SIZE) {
+                board[column] = in.readUnsignedShort();
+            } else {
+                board[column] = in.readInt();
+            }
+        }
+        
+        return new NQueensBoard(board);
+    }
+}
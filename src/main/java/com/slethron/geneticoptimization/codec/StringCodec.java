@@ -0,0 +1,27 @@
+package com.slethron.geneticoptimization.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes a string as the length of its UTF-8 bytes followed by the bytes, which is one byte per character for
+ * the printable ASCII strings of the string matching problem.
+ */
+public class StringCodec implements GenomeCodec<String> {
+    @Override
+    public void encode(String individual, DataOutput out) throws IOException {
+        var bytes = individual.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    @Override
+    public String decode(DataInput in) throws IOException {
+        var bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,51 @@
+package com.slethron.geneticoptimization.codec;
+
+import com.slethron.geneticoptimization.domain.SudokuBoard;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes the boards of one puzzle as their cell values, two cells to a byte. The static cells are those of the
+ * puzzle the codec was created for, and decoded boards share them with it.
+ */
+public class SudokuBoardCodec implements GenomeCodec<SudokuBoard> {
+    private static final int ENCODED_SIZE = (SudokuBoard.CELL_COUNT + 1) / 2;
+    
+    private SudokuBoard puzzle;
+    
+    public SudokuBoardCodec(SudokuBoard puzzle) {
+        this.puzzle = puzzle;
+    }
+    
+    @Override
+    public void encode(SudokuBoard individual, DataOutput out) throws IOException {
+        for (var cell = 0; cell < SudokuBoard.CELL_COUNT; cell += 2) {
+            var high = cell + 1 < SudokuBoard.CELL_COUNT ? individual.get(cell + 1) : SudokuBoard.EMPTY;
+            out.writeByte(high << 4 | individual.get(cell));
+        }
+    }
+    
+    @Override
+    public SudokuBoard decode(DataInput in) throws IOException {
+        var bytes = new byte[ENCODED_SIZE];
+        in.readFully(bytes);
+        
+        var board = new SudokuBoard(puzzle);
+        for (var cell = 0; cell < SudokuBoard.CELL_COUNT; cell++) {
+            if (board.isStatic(cell)) {
+                continue;
+            }
+            
+            var value = bytes[cell / 2] >>> (cell % 2) * 4 & 0xF;
+            if (value == SudokuBoard.EMPTY) {
+                board.remove(cell);
+            } else {
+                board.set(cell, value);
+            }
+        }
+        
+        return board;
+    }
+}
@@ -1,28 +1,92 @@
 package com.slethron.geneticoptimization.domain;
 
-import java.util.Objects;
+import java.util.Arrays;
 
+/**
+ * A fixed-length string of bits packed 64 to a word. Bits past the length in the last word are always kept
+ * clear, so whole words can be compared, hashed and counted directly.
+ */
 public class BitString {
-    private boolean[] bits;
+    private long[] words;
+    private int length;
+    
+    public BitString(int length) {
+        this.words = new long[(length + Long.SIZE - 1) / Long.SIZE];
+        this.length = length;
+    }
     
     public BitString(boolean[] bits) {
-        this.bits = bits;
+        this(bits.length);
+        for (var i = 0; i < bits.length; i++) {
+            set(i, bits[i]);
+        }
     }
     
     public BitString(BitString source) {
-        this.bits = source.bits.clone();
+        this.words = source.words.clone();
+        this.length = source.length;
     }
     
     public boolean get(int column) {
-        return bits[column];
+        checkIndex(column);
+        return (words[column / Long.SIZE] & (1L << column)) != 0;
     }
     
     public void set(int column, boolean row) {
-        bits[column] = row;
+        checkIndex(column);
+        if (row) {
+            words[column / Long.SIZE] |= 1L << column;
+        } else {
+            words[column / Long.SIZE] &= ~(1L << column);
+        }
+    }
+    
+    public void flip(int column) {
+        checkIndex(column);
+        words[column / Long.SIZE] ^= 1L << column;
     }
     
     public int length() {
-        return bits.length;
+        return length;
+    }
+    
+    /**
+     * Returns the number of set bits.
+     */
+    public int cardinality() {
+        var cardinality = 0;
+        for (var word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        
+        return cardinality;
+    }
+    
+    public int wordCount() {
+        return words.length;
+    }
+    
+    /**
+     * Returns the 64 bits starting at bit {@code index * 64}, with the lowest bit first.
+     */
+    public long getWord(int index) {
+        return words[index];
+    }
+    
+    /**
+     * Replaces the 64 bits starting at bit {@code index * 64}. Bits past the length of the string are ignored.
+     */
+    public void setWord(int index, long word) {
+        if (index == words.length - 1 && length % Long.SIZE != 0) {
+            word &= -1L >>> (Long.SIZE - length % Long.SIZE);
+        }
+        words[index] = word;
+    }
+    
+    private void checkIndex(int column) {
+        if (column < 0 || column >= length) {
+            throw new IndexOutOfBoundsException("Bit " + column + " is out of bounds for length " + length);
+        }
     }
     
     @Override
@@ -37,25 +101,15 @@ public class BitString {
         
         var e = (BitString) obj;
         
-        if (e.length() != length()) {
-            return false;
-        }
-        
-        for (var i = 0; i < length(); i++) {
-            if (e.get(i) != get(i)) {
-                return false;
-            }
-        }
-        
-        return true;
+        return e.length == length && Arrays.equals(e.words, words);
     }
     
     @Override
     public String toString() {
         var builder = new StringBuilder();
-        for (var column = 0; column < bits.length; column++) {
-            builder.append(bits[column]);
-            if (column != bits.length - 1) {
+        for (var column = 0; column < length; column++) {
+            builder.append(get(column));
+            if (column != length - 1) {
                 builder.append(", ");
             }
         }
@@ -66,6 +120,6 @@ public class BitString {
     
     @Override
     public int hashCode() {
-        return Objects.hash(bits, bits.length);
+        return 31 * Arrays.hashCode(words) + length;
     }
 }
@@ -1,9 +1,10 @@
 package com.slethron.geneticoptimization.domain;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 public class Knapsack {
     public static class KnapsackItem {
@@ -63,56 +64,240 @@ public class Knapsack {
         }
     }
     
+    /**
+     * The items a knapsack can hold, each at a fixed index. Weights and values are kept in primitive arrays so a
+     * knapsack can track its contents as a set of indices. A catalog built from a list of items is read-only and
+     * can be shared between threads.
+     */
+    public static class ItemCatalog {
+        private KnapsackItem[] items;
+        private int[] weights;
+        private int[] values;
+        private int size;
+        private Map<KnapsackItem, Integer> indices;
+        private boolean growable;
+        
+        public ItemCatalog(List<KnapsackItem> items) {
+            this(items.size());
+            for (var item : items) {
+                add(item);
+            }
+        }
+        
+        private ItemCatalog(int capacity) {
+            items = new KnapsackItem[capacity];
+            weights = new int[capacity];
+            values = new int[capacity];
+            indices = new HashMap<>();
+        }
+        
+        public int size() {
+            return size;
+        }
+        
+        public KnapsackItem get(int index) {
+            return items[index];
+        }
+        
+        public int getWeight(int index) {
+            return weights[index];
+        }
+        
+        public int getValue(int index) {
+            return values[index];
+        }
+        
+        /**
+         * Returns the index of an item in this catalog, or -1 if the catalog does not hold it.
+         */
+        public int indexOf(KnapsackItem item) {
+            var index = indices.get(item);
+            return index == null ? -1 : index;
+        }
+        
+        private int add(KnapsackItem item) {
+            var index = indexOf(item);
+            if (index != -1) {
+                return index;
+            }
+            
+            if (size == items.length) {
+                var capacity = Math.max(8, size * 2);
+                items = Arrays.copyOf(items, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            items[size] = item;
+            weights[size] = item.getWeight();
+            values[size] = item.getValue();
+            indices.put(item, size);
+            
+            return size++;
+        }
+    }
+    
     private int maxWeight;
-    private Set<KnapsackItem> items;
+    private ItemCatalog catalog;
+    private long[] selected;
+    private int itemCount;
+    private int totalWeight;
+    private int totalValue;
     
     public Knapsack(Knapsack knapsack) {
         maxWeight = knapsack.maxWeight;
-        items = knapsack.items;
+        catalog = knapsack.catalog;
+        selected = knapsack.selected.clone();
+        itemCount = knapsack.itemCount;
+        totalWeight = knapsack.totalWeight;
+        totalValue = knapsack.totalValue;
     }
     
+    /**
+     * Creates an empty knapsack that accepts any item, cataloging items as they are put.
+     */
     public Knapsack(int maxWeight) {
+        this(maxWeight, new ItemCatalog(0));
+        catalog.growable = true;
+    }
+    
+    /**
+     * Creates an empty knapsack that holds items of a shared catalog.
+     */
+    public Knapsack(int maxWeight, ItemCatalog catalog) {
         this.maxWeight = maxWeight;
-        this.items = new HashSet<>();
+        this.catalog = catalog;
+        selected = new long[(catalog.size() + 63) >>> 6];
     }
     
     public int getTotalWeight() {
-        var totalWeight = 0;
-        for (var item : items) {
-            totalWeight += item.getWeight();
-        }
-        
         return totalWeight;
     }
     
     public int getTotalValue() {
-        var totalValue = 0;
-        for (var item : items) {
-            totalValue += item.getValue();
-        }
-        
         return totalValue;
     }
     
     public List<KnapsackItem> getItems() {
-        return new ArrayList<>(items);
+        var items = new ArrayList<KnapsackItem>(itemCount);
+        for (var word = 0; word < selected.length; word++) {
+            for (var bits = selected[word]; bits != 0; bits &= bits - 1) {
+                items.add(catalog.get((word << 6) + Long.numberOfTrailingZeros(bits)));
+            }
+        }
+        
+        return items;
+    }
+    
+    public int getItemCount() {
+        return itemCount;
     }
     
     public int getMaxWeight() {
         return maxWeight;
     }
     
+    public ItemCatalog getCatalog() {
+        return catalog;
+    }
+    
+    public boolean contains(KnapsackItem item) {
+        var index = catalog.indexOf(item);
+        return index != -1 && contains(index);
+    }
+    
+    /**
+     * @param index The catalog index of an item
+     * @return Whether the knapsack holds the item
+     */
+    public boolean contains(int index) {
+        var word = index >>> 6;
+        return word < selected.length && (selected[word] & 1L << index) != 0;
+    }
+    
     public boolean put(KnapsackItem item) {
-        if (canFitItem(item)) {
-            items.add(item);
+        var index = catalog.indexOf(item);
+        if (index == -1) {
+            if (!catalog.growable) {
+                throw new IllegalArgumentException("Item " + item + " is not in the catalog of this knapsack.");
+            }
+            if (!canFitWeight(item.getWeight())) {
+                return false;
+            }
+            index = catalog.add(item);
+        }
+        
+        return put(index);
+    }
+    
+    /**
+     * Puts an item into the knapsack if it is not already held and fits within the remaining weight.
+     *
+     * @param index The catalog index of the item
+     * @return Whether the knapsack holds the item afterwards
+     */
+    public boolean put(int index) {
+        if (contains(index)) {
             return true;
         }
+        if (!canFitWeight(catalog.getWeight(index))) {
+            return false;
+        }
+        
+        var word = index >>> 6;
+        if (word >= selected.length) {
+            selected = Arrays.copyOf(selected, Math.max(word + 1, selected.length * 2));
+        }
+        selected[word] |= 1L << index;
+        itemCount++;
+        totalWeight += catalog.getWeight(index);
+        totalValue += catalog.getValue(index);
+        
+        return true;
+    }
+    
+    /**
+     * Takes an item out of the knapsack if it holds it.
+     *
+     * @param index The catalog index of the item
+     */
+    public void remove(int index) {
+        if (!contains(index)) {
+            return;
+        }
         
-        return false;
+        selected[index >>> 6] &= ~(1L << index);
+        itemCount--;
+        totalWeight -= catalog.getWeight(index);
+        totalValue -= catalog.getValue(index);
     }
     
-    private boolean canFitItem(KnapsackItem item) {
-        return getTotalWeight() + item.getWeight() <= maxWeight;
+    /**
+     * Empties the knapsack.
+     */
+    public void clear() {
+        Arrays.fill(selected, 0);
+        itemCount = 0;
+        totalWeight = 0;
+        totalValue = 0;
+    }
+    
+    /**
+     * Returns the number of 64-bit words the held catalog indices are stored in.
+     */
+    public int wordCount() {
+        return selected.length;
+    }
+    
+    /**
+     * Returns the held catalog indices {@code 64 * word} to {@code 64 * word + 63} as the bits of a word, or
+     * zero past the stored words.
+     */
+    public long getWord(int word) {
+        return word < selected.length ? selected[word] : 0;
+    }
+    
+    private boolean canFitWeight(int weight) {
+        return totalWeight + weight <= maxWeight;
     }
     
     @Override
@@ -150,8 +335,23 @@ public class Knapsack {
         
         var knapsack = (Knapsack) obj;
         
-        for (var item : this.getItems()) {
-            if (!knapsack.getItems().contains(item)) {
+        if (knapsack.maxWeight != maxWeight || knapsack.itemCount != itemCount
+                || knapsack.totalWeight != totalWeight || knapsack.totalValue != totalValue) {
+            return false;
+        }
+        
+        if (knapsack.catalog == catalog) {
+            var words = Math.max(selected.length, knapsack.selected.length);
+            for (var word = 0; word < words; word++) {
+                if (getWord(word) != knapsack.getWord(word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        for (var item : getItems()) {
+            if (!knapsack.contains(item)) {
                 return false;
             }
         }
@@ -161,6 +361,13 @@ public class Knapsack {
     
     @Override
     public int hashCode() {
-        return maxWeight + items.hashCode();
+        var hash = maxWeight;
+        for (var word = 0; word < selected.length; word++) {
+            for (var bits = selected[word]; bits != 0; bits &= bits - 1) {
+                hash += catalog.get((word << 6) + Long.numberOfTrailingZeros(bits)).hashCode();
+            }
+        }
+        
+        return hash;
     }
 }
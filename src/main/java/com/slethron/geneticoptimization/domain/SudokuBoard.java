@@ -2,87 +2,195 @@ package com.slethron.geneticoptimization.domain;
 
 import java.util.Arrays;
 
+/**
+ * A Sudoku board stored as 81 cells in row-major order, one byte per cell. Static cells are kept in an 81-bit
+ * mask that copies of a board share until one of them marks another cell static. Cells can be addressed either
+ * by row and column or by their flat index {@code row * SIZE + column}.
+ */
 public class SudokuBoard {
     public static final int EMPTY = 0;
     public static final int SIZE = 9;
     public static final int SUBGRID_SIZE = SIZE / 3;
+    public static final int CELL_COUNT = SIZE * SIZE;
     
-    private int[][] board;
-    private boolean[][] staticCells;
+    private byte[] cells;
+    private long[] staticCells;
     
     public SudokuBoard() {
-        board = new int[SIZE][SIZE];
-        staticCells = new boolean[SIZE][SIZE];
+        cells = new byte[CELL_COUNT];
+        staticCells = new long[2];
     }
     
     public SudokuBoard(SudokuBoard source) {
-        board = new int[SIZE][SIZE];
-        staticCells = new boolean[SIZE][SIZE];
+        cells = source.cells.clone();
+        staticCells = source.staticCells;
+    }
+    
+    public SudokuBoard(int[][] board, boolean[][] staticCells) {
+        this();
         for (var row = 0; row < SIZE; row++) {
             for (var column = 0; column < SIZE; column++) {
-                board[row][column] = source.board[row][column];
-                staticCells[row][column] = source.staticCells[row][column];
+                cells[row * SIZE + column] = (byte) board[row][column];
+                if (staticCells[row][column]) {
+                    this.staticCells[(row * SIZE + column) / Long.SIZE] |= 1L << (row * SIZE + column);
+                }
             }
         }
     }
     
-    public SudokuBoard(int[][] board, boolean[][] staticCells) {
-        this.board = board;
-        this.staticCells = staticCells;
+    public int get(int row, int column) {
+        return cells[row * SIZE + column];
     }
     
-    public int get(int row, int column) {
-        return board[row][column];
+    public int get(int cell) {
+        return cells[cell];
     }
     
     public void set(int row, int column, int value) {
+        set(row * SIZE + column, value);
+    }
+    
+    public void set(int cell, int value) {
         if (value < 1 || value > 9)
             throw new IllegalArgumentException("Only values 1-9 can be inserted.");
-        if (isStatic(row, column))
+        if (isStatic(cell))
             throw new IllegalArgumentException("Static cells cannot be changed.");
         
-        board[row][column] = value;
+        cells[cell] = (byte) value;
     }
     
     public void remove(int row, int column) {
-        if (isStatic(row, column))
+        remove(row * SIZE + column);
+    }
+    
+    public void remove(int cell) {
+        if (isStatic(cell))
             throw new IllegalArgumentException("Static cells cannot be changed.");
         
-        board[row][column] = EMPTY;
+        cells[cell] = EMPTY;
+    }
+    
+    /**
+     * Copies the cells in the flat index range [from, to) from a board of the same puzzle, i.e. one with the
+     * same static cells, whose values are therefore equal to the ones they replace.
+     */
+    public void copyCells(SudokuBoard source, int from, int to) {
+        if (source.staticCells != staticCells && !Arrays.equals(source.staticCells, staticCells))
+            throw new IllegalArgumentException("Cells can only be copied between boards with the same static cells.");
+        
+        System.arraycopy(source.cells, from, cells, from, to - from);
     }
     
+    /**
+     * Returns a copy of the cells as a two-dimensional array.
+     */
     public int[][] getBoard() {
+        var board = new int[SIZE][SIZE];
+        for (var row = 0; row < SIZE; row++) {
+            for (var column = 0; column < SIZE; column++) {
+                board[row][column] = get(row, column);
+            }
+        }
+        
         return board;
     }
     
+    /**
+     * Returns a copy of the static cell mask as a two-dimensional array.
+     */
     public boolean[][] getStaticCells() {
+        var staticCells = new boolean[SIZE][SIZE];
+        for (var row = 0; row < SIZE; row++) {
+            for (var column = 0; column < SIZE; column++) {
+                staticCells[row][column] = isStatic(row, column);
+            }
+        }
+        
         return staticCells;
     }
     
     public boolean isStatic(int row, int column) {
-        return staticCells[row][column];
+        return isStatic(row * SIZE + column);
+    }
+    
+    public boolean isStatic(int cell) {
+        return (staticCells[cell / Long.SIZE] & 1L << cell) != 0;
     }
     
     public void setStatic(int row, int column) {
         if (get(row, column) == EMPTY)
             throw new IllegalArgumentException("Empty cell cannot be static.");
         
-        staticCells[row][column] = true;
+        // The mask may be shared with copies of this board, so it is replaced rather than modified
+        var cell = row * SIZE + column;
+        staticCells = staticCells.clone();
+        staticCells[cell / Long.SIZE] |= 1L << cell;
     }
     
     public int getEmptyCellCount() {
         var count = 0;
-        for (var row = 0; row < SIZE; row++) {
-            for (var column = 0; column < SIZE; column++) {
-                if (get(row, column) == EMPTY) {
-                    count++;
-                }
+        for (var cell : cells) {
+            if (cell == EMPTY) {
+                count++;
             }
         }
         
         return count;
     }
     
+    /**
+     * Returns the number of filled cells in a row that repeat a digit already present in that row. The count is
+     * the number of filled cells less the population count of the row's 9-bit digit mask.
+     */
+    public int getDuplicatesInRow(int row) {
+        var mask = 0;
+        var filled = 0;
+        for (var cell = row * SIZE; cell < (row + 1) * SIZE; cell++) {
+            if (cells[cell] != EMPTY) {
+                mask |= 1 << cells[cell];
+                filled++;
+            }
+        }
+        
+        return filled - Integer.bitCount(mask);
+    }
+    
+    /**
+     * Returns the number of filled cells in a column that repeat a digit already present in that column.
+     */
+    public int getDuplicatesInColumn(int column) {
+        var mask = 0;
+        var filled = 0;
+        for (var cell = column; cell < CELL_COUNT; cell += SIZE) {
+            if (cells[cell] != EMPTY) {
+                mask |= 1 << cells[cell];
+                filled++;
+            }
+        }
+        
+        return filled - Integer.bitCount(mask);
+    }
+    
+    /**
+     * Returns the number of filled cells in a subgrid that repeat a digit already present in that subgrid.
+     * Subgrids are numbered 0-8 in row-major order.
+     */
+    public int getDuplicatesInSubgrid(int subgrid) {
+        var origin = (subgrid / SUBGRID_SIZE) * SUBGRID_SIZE * SIZE + (subgrid % SUBGRID_SIZE) * SUBGRID_SIZE;
+        var mask = 0;
+        var filled = 0;
+        for (var row = 0; row < SUBGRID_SIZE; row++) {
+            for (var cell = origin + row * SIZE; cell < origin + row * SIZE + SUBGRID_SIZE; cell++) {
+                if (cells[cell] != EMPTY) {
+                    mask |= 1 << cells[cell];
+                    filled++;
+                }
+            }
+        }
+        
+        return filled - Integer.bitCount(mask);
+    }
+    
     @Override
     public String toString() {
         var builder = new StringBuilder();
@@ -115,27 +223,11 @@ public class SudokuBoard {
         
         var sudokuBoard = (SudokuBoard) obj;
         
-        for (var i = 0; i < SIZE; i++) {
-            for (var j = 0; j < SIZE; j++) {
-                if (sudokuBoard.get(i, j) != get(i, j)) {
-                    return false;
-                }
-            }
-        }
-        
-        for (var i = 0; i < SIZE; i++) {
-            for (var j = 0; j < SIZE; j++) {
-                if (sudokuBoard.isStatic(i, j) != isStatic(i, j)) {
-                    return false;
-                }
-            }
-        }
-        
-        return true;
+        return Arrays.equals(cells, sudokuBoard.cells) && Arrays.equals(staticCells, sudokuBoard.staticCells);
     }
     
     @Override
     public int hashCode() {
-        return Arrays.hashCode(board);
+        return Arrays.hashCode(cells);
     }
 }
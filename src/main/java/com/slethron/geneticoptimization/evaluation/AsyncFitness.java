@@ -0,0 +1,54 @@
+package com.slethron.geneticoptimization.evaluation;
+
+import com.slethron.geneticoptimization.GeneticOptimizer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Scores individuals without holding a thread while each score is computed, for fitness functions that mostly
+ * wait on a simulator or a remote service. A whole batch is handed over at once, so implementations can send it
+ * as a single request.
+ *
+ * @param <E> The type of the individuals being scored
+ */
+@FunctionalInterface
+public interface AsyncFitness<E> {
+    /**
+     * @param batch The individuals to score, which are not changed until the returned future completes
+     * @return A future completing with the score of every individual, in the order of the batch
+     */
+    CompletableFuture<double[]> evaluateBatch(List<E> batch);
+
+    /**
+     * Adapts a fitness function that scores one individual at a time.
+     */
+    static <E> AsyncFitness<E> perIndividual(Function<E, CompletableFuture<Double>> fitness) {
+        return batch -> {
+            var futures = new CompletableFuture<?>[batch.size()];
+            var scores = new double[batch.size()];
+            for (var i = 0; i < batch.size(); i++) {
+                var index = i;
+                futures[i] = fitness.apply(batch.get(i)).thenAccept(score -> scores[index] = score);
+            }
+
+            return CompletableFuture.allOf(futures).thenApply(done -> scores);
+        };
+    }
+
+    /**
+     * Adapts the synchronous fitness function of an optimizer, scoring each batch on one thread of the executor.
+     */
+    static <E> AsyncFitness<E> synchronous(GeneticOptimizer<E> optimizer, Executor executor) {
+        return batch -> CompletableFuture.supplyAsync(() -> {
+            var scores = new double[batch.size()];
+            for (var i = 0; i < batch.size(); i++) {
+                scores[i] = optimizer.fitness(batch.get(i));
+            }
+
+            return scores;
+        }, executor);
+    }
+}
@@ -0,0 +1,155 @@
+package com.slethron.geneticoptimization.evaluation;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scores a range of a population through an {@link AsyncFitness} and waits for every score before returning, so
+ * selection only ever sees a fully scored generation. Individuals are sent in batches, at most a fixed number of
+ * which are in flight at once; the calling thread waits for a free slot before sending the next batch, so a
+ * slow fitness service is never flooded with requests.
+ *
+ * <p>With coalescing, individuals equal to one already in the range are not sent again and receive its score
+ * instead. Converged populations are full of such duplicates. Coalescing relies on the individuals' equals and
+ * hashCode.
+ *
+ * @param <E> The type of the individuals being scored
+ */
+public class BatchEvaluator<E> {
+    private AsyncFitness<E> fitness;
+    private int batchSize;
+    private boolean coalescing;
+    private Semaphore inFlight;
+    private AtomicLong requested;
+    private AtomicLong sent;
+
+    public BatchEvaluator(AsyncFitness<E> fitness) {
+        this.fitness = fitness;
+        batchSize = 64;
+        coalescing = true;
+        inFlight = new Semaphore(Runtime.getRuntime().availableProcessors());
+        requested = new AtomicLong();
+        sent = new AtomicLong();
+    }
+
+    /**
+     * @param batchSize The largest number of individuals sent in one batch
+     * @return This evaluator
+     */
+    public BatchEvaluator<E> withBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least one.");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @param maxInFlight The largest number of batches being scored at once
+     * @return This evaluator
+     */
+    public BatchEvaluator<E> withMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("At least one batch must be allowed in flight.");
+        }
+        inFlight = new Semaphore(maxInFlight);
+        return this;
+    }
+
+    public BatchEvaluator<E> withCoalescing(boolean coalescing) {
+        this.coalescing = coalescing;
+        return this;
+    }
+
+    /**
+     * Returns the number of individuals this evaluator has been asked to score.
+     */
+    public long getRequested() {
+        return requested.get();
+    }
+
+    /**
+     * Returns the number of individuals this evaluator has sent to the fitness function, which is lower than the
+     * number requested by the duplicates it coalesced.
+     */
+    public long getSent() {
+        return sent.get();
+    }
+
+    /**
+     * Scores the individuals of a range of the population and stores their scores next to them.
+     *
+     * @param population The population, whose individuals in the range are already in place
+     * @param from       The first slot to score
+     * @param to         The slot after the last one to score
+     */
+    public void evaluate(ScoredPopulation<E> population, int from, int to) {
+        var size = to - from;
+        if (size <= 0) {
+            return;
+        }
+        requested.addAndGet(size);
+
+        // Map every slot to the first slot holding an equal individual, which is the only one sent
+        var representative = new int[size];
+        var unique = new ArrayList<E>(size);
+        var firstSlot = coalescing ? new HashMap<E, Integer>() : null;
+        for (var i = 0; i < size; i++) {
+            var individual = population.get(from + i);
+            var first = firstSlot != null ? firstSlot.putIfAbsent(individual, unique.size()) : null;
+            if (first == null) {
+                representative[i] = unique.size();
+                unique.add(individual);
+            } else {
+                representative[i] = first;
+            }
+        }
+        sent.addAndGet(unique.size());
+
+        var scores = new double[unique.size()];
+        var semaphore = inFlight;
+        var batches = new ArrayList<CompletableFuture<Void>>();
+        try {
+            for (var batchFrom = 0; batchFrom < unique.size(); batchFrom += batchSize) {
+                var batchStart = batchFrom;
+                var batch = unique.subList(batchFrom, Math.min(unique.size(), batchFrom + batchSize));
+                semaphore.acquire();
+                CompletableFuture<double[]> pending;
+                try {
+                    pending = fitness.evaluateBatch(batch);
+                } catch (RuntimeException e) {
+                    semaphore.release();
+                    throw e;
+                }
+                batches.add(pending
+                        .whenComplete((result, failure) -> semaphore.release())
+                        .thenAccept(result -> {
+                            if (result.length != batch.size()) {
+                                throw new IllegalStateException("Expected " + batch.size() + " scores but got "
+                                        + result.length + ".");
+                            }
+                            System.arraycopy(result, 0, scores, batchStart, result.length);
+                        }));
+            }
+            CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to send a batch.", e);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Scoring a batch failed.", e.getCause());
+        }
+
+        for (var i = 0; i < size; i++) {
+            population.set(from + i, population.get(from + i), scores[representative[i]]);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.slethron.geneticoptimization.evaluation;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Remembers the scores of a bounded number of individuals, so duplicates that keep reappearing in a converged
+ * population are scored once. Entries are found by a 64-bit content hash and confirmed with equals, so a hash
+ * collision costs a recomputation but never a wrong score.
+ *
+ * <p>The cache is split into segments by hash, each guarded by its own lock, and scores are computed outside of
+ * any lock. When a segment is full, the CLOCK algorithm picks the entry to evict: a hand sweeps the entries in
+ * order, sparing those looked up since it last passed and evicting the first that was not.
+ *
+ * <p>Individuals that are overwritten in place after being scored must be cached as copies; see
+ * {@link #withCopier(UnaryOperator)}.
+ *
+ * @param <E> The type of the individuals being scored
+ */
+public class FitnessCache<E> {
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+    private static final int MAX_SEGMENTS = 64;
+
+    private GenomeHash<E> hash;
+    private UnaryOperator<E> copier;
+    private Segment[] segments;
+    private LongAdder hits;
+    private LongAdder misses;
+    private LongAdder evictions;
+
+    /**
+     * @param capacity The largest number of individuals kept
+     * @param hash     The content hash of the individuals
+     */
+    public FitnessCache(int capacity, GenomeHash<E> hash) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be at least one.");
+        }
+
+        this.hash = hash;
+        var segmentCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS,
+                capacity / MIN_SEGMENT_CAPACITY)));
+        segments = new Segment[segmentCount];
+        for (var i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment((capacity + segmentCount - 1) / segmentCount);
+        }
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+    }
+
+    /**
+     * Stores a copy of every individual made with the given function instead of the individual itself.
+     *
+     * @return This cache
+     */
+    public FitnessCache<E> withCopier(UnaryOperator<E> copier) {
+        this.copier = copier;
+        return this;
+    }
+
+    public boolean hasCopier() {
+        return copier != null;
+    }
+
+    /**
+     * Returns the cached score of an individual, or computes, caches and returns it.
+     *
+     * @param individual The individual to score
+     * @param fitness    Computes the score on a miss
+     */
+    @SuppressWarnings("unchecked")
+    public double fitness(E individual, ToDoubleFunction<E> fitness) {
+        var key = hash.hash(individual);
+        var segment = segments[(int) (key >>> 32) & (segments.length - 1)];
+        synchronized (segment) {
+            var slot = segment.find(key);
+            if (slot >= 0 && individual.equals(segment.individuals[slot])) {
+                segment.referenced[slot] = true;
+                hits.increment();
+                return segment.scores[slot];
+            }
+        }
+
+        misses.increment();
+        var score = fitness.applyAsDouble(individual);
+        var stored = copier != null ? copier.apply(individual) : individual;
+        synchronized (segment) {
+            if (segment.put(key, stored, score)) {
+                evictions.increment();
+            }
+        }
+
+        return score;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups that were hits, or 0 before the first lookup.
+     */
+    public double getHitRate() {
+        var hits = getHits();
+        var lookups = hits + getMisses();
+        return lookups > 0 ? (double) hits / lookups : 0;
+    }
+
+    /**
+     * Returns the number of individuals currently cached.
+     */
+    public int size() {
+        var size = 0;
+        for (var segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * One lock's worth of entries. Entries live in parallel arrays indexed by slot, and an open-addressing table
+     * with linear probing maps hashes to slots. No two slots of a segment hold the same hash.
+     */
+    private static class Segment {
+        private long[] hashes;
+        private Object[] individuals;
+        private double[] scores;
+        private boolean[] referenced;
+        private int[] index;
+        private int size;
+        private int hand;
+
+        private Segment(int capacity) {
+            hashes = new long[capacity];
+            individuals = new Object[capacity];
+            scores = new double[capacity];
+            referenced = new boolean[capacity];
+            index = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+        }
+
+        /**
+         * Returns the slot holding the hash, or -1.
+         */
+        private int find(long key) {
+            var mask = index.length - 1;
+            for (var i = (int) key & mask; index[i] != 0; i = (i + 1) & mask) {
+                if (hashes[index[i] - 1] == key) {
+                    return index[i] - 1;
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * Stores a score, replacing the entry with the same hash if there is one, and returns whether another
+         * entry had to be evicted for it.
+         */
+        private boolean put(long key, Object individual, double score) {
+            var slot = find(key);
+            if (slot >= 0) {
+                individuals[slot] = individual;
+                scores[slot] = score;
+                return false;
+            }
+
+            var evicted = size == hashes.length;
+            if (evicted) {
+                while (referenced[hand]) {
+                    referenced[hand] = false;
+                    hand = (hand + 1) % hashes.length;
+                }
+                slot = hand;
+                hand = (hand + 1) % hashes.length;
+                removeFromIndex(hashes[slot]);
+            } else {
+                slot = size++;
+            }
+
+            hashes[slot] = key;
+            individuals[slot] = individual;
+            scores[slot] = score;
+            referenced[slot] = false;
+            var mask = index.length - 1;
+            var i = (int) key & mask;
+            while (index[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            index[i] = slot + 1;
+
+            return evicted;
+        }
+
+        /**
+         * Removes a hash from the index, shifting later entries of its probe run back so that every entry stays
+         * reachable from its home position.
+         */
+        private void removeFromIndex(long key) {
+            var mask = index.length - 1;
+            var i = (int) key & mask;
+            while (hashes[index[i] - 1] != key) {
+                i = (i + 1) & mask;
+            }
+
+            index[i] = 0;
+            for (var j = (i + 1) & mask; index[j] != 0; j = (j + 1) & mask) {
+                var home = (int) hashes[index[j] - 1] & mask;
+                // Move the entry into the gap unless its home lies cyclically after the gap
+                var homeAfterGap = i <= j ? home > i && home <= j : home > i || home <= j;
+                if (!homeAfterGap) {
+                    index[i] = index[j];
+                    index[j] = 0;
+                    i = j;
+                }
+            }
+        }
+    }
+}
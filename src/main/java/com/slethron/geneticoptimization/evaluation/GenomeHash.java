@@ -0,0 +1,115 @@
+package com.slethron.geneticoptimization.evaluation;
+
+import com.slethron.geneticoptimization.domain.BitString;
+import com.slethron.geneticoptimization.domain.Knapsack;
+import com.slethron.geneticoptimization.domain.NQueensBoard;
+import com.slethron.geneticoptimization.domain.SudokuBoard;
+
+/**
+ * Hashes the content of an individual to 64 bits. Equal individuals must have equal hashes; unequal individuals
+ * should collide about as rarely as random 64-bit values do.
+ *
+ * @param <E> The type of the individuals being hashed
+ */
+@FunctionalInterface
+public interface GenomeHash<E> {
+    long hash(E individual);
+
+    static GenomeHash<BitString> bitString() {
+        return individual -> {
+            var hash = seed(individual.length());
+            for (var i = 0; i < individual.wordCount(); i++) {
+                hash = combine(hash, individual.getWord(i));
+            }
+
+            return finish(hash);
+        };
+    }
+
+    static GenomeHash<NQueensBoard> nQueensBoard() {
+        return individual -> {
+            var hash = seed(individual.length());
+            var i = 0;
+            for (; i + 1 < individual.length(); i += 2) {
+                hash = combine(hash, (long) individual.get(i) << 32 | individual.get(i + 1) & 0xFFFFFFFFL);
+            }
+            if (i < individual.length()) {
+                hash = combine(hash, individual.get(i));
+            }
+
+            return finish(hash);
+        };
+    }
+
+    /**
+     * Hashes the cells of a sudoku board, sixteen 4-bit digits at a time. Boards that differ only in which
+     * cells are static hash alike.
+     */
+    static GenomeHash<SudokuBoard> sudokuBoard() {
+        return individual -> {
+            var hash = seed(SudokuBoard.CELL_COUNT);
+            var packed = 0L;
+            for (var cell = 0; cell < SudokuBoard.CELL_COUNT; cell++) {
+                packed = packed << 4 | individual.get(cell);
+                if (cell % 16 == 15) {
+                    hash = combine(hash, packed);
+                    packed = 0;
+                }
+            }
+
+            return finish(combine(hash, packed));
+        };
+    }
+
+    /**
+     * Hashes the held catalog indices of a knapsack. Knapsacks filled from different catalogs hash alike
+     * whenever they hold the same indices.
+     */
+    static GenomeHash<Knapsack> knapsack() {
+        return individual -> {
+            var hash = seed(individual.getMaxWeight());
+            var words = individual.wordCount();
+            while (words > 0 && individual.getWord(words - 1) == 0) {
+                words--;
+            }
+            for (var i = 0; i < words; i++) {
+                hash = combine(hash, individual.getWord(i));
+            }
+
+            return finish(hash);
+        };
+    }
+
+    static GenomeHash<String> string() {
+        return individual -> {
+            var hash = seed(individual.length());
+            var i = 0;
+            for (; i + 3 < individual.length(); i += 4) {
+                hash = combine(hash, (long) individual.charAt(i) << 48 | (long) individual.charAt(i + 1) << 32
+                        | (long) individual.charAt(i + 2) << 16 | individual.charAt(i + 3));
+            }
+            for (; i < individual.length(); i++) {
+                hash = combine(hash, individual.charAt(i));
+            }
+
+            return finish(hash);
+        };
+    }
+
+    private static long seed(long length) {
+        return 0x9E3779B97F4A7C15L ^ length;
+    }
+
+    private static long combine(long hash, long value) {
+        return Long.rotateLeft(hash ^ value * 0xC2B2AE3D27D4EB4FL, 31) * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * Spreads every input bit over the whole hash, as the finalizer of MurmurHash3 does.
+     */
+    private static long finish(long hash) {
+        hash = (hash ^ hash >>> 33) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ hash >>> 33) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ hash >>> 33;
+    }
+}
@@ -0,0 +1,262 @@
+package com.slethron.geneticoptimization.island;
+
+import com.slethron.geneticoptimization.codec.GenomeCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Connects the {@link IslandNode} processes of a distributed island model. Every node opens one loopback TCP
+ * connection to the coordinator, which relays the migrants of each node to the nodes its
+ * {@link MigrationTopology} names, keeps track of the fittest individual any node has reported, and tells every
+ * node to stop once that individual reaches the target fitness.
+ *
+ * <p>Messages are a type byte followed by a body. A node introduces itself with its index, sends its migrants as
+ * a count followed by score and encoded genome pairs, and finishes with its fittest individual. The coordinator
+ * forwards migrants in the same form and stops nodes with a bodiless message.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public class IslandCoordinator<E> implements Closeable {
+    static final int HELLO = 1;
+    static final int MIGRANTS = 2;
+    static final int DONE = 3;
+    static final int STOP = 4;
+
+    private GenomeCodec<E> codec;
+    private boolean maximizing;
+    private int nodeCount;
+    private MigrationTopology topology;
+    private boolean hasTargetFitness;
+    private double targetFitness;
+    private ServerSocket serverSocket;
+    private List<Connection> connections;
+    private E best;
+    private double bestFitness;
+
+    /**
+     * @param codec      The codec of the individuals the nodes exchange
+     * @param maximizing Whether the nodes' problem maximizes its fitness
+     * @param nodeCount  The number of nodes that will connect
+     */
+    public IslandCoordinator(GenomeCodec<E> codec, boolean maximizing, int nodeCount) {
+        this.codec = codec;
+        this.maximizing = maximizing;
+        this.nodeCount = nodeCount;
+        topology = MigrationTopology.RING;
+    }
+
+    public IslandCoordinator<E> withTopology(MigrationTopology topology) {
+        this.topology = topology;
+        return this;
+    }
+
+    /**
+     * Stops every node as soon as one of them reports an individual at least as fit as the target.
+     *
+     * @return This coordinator
+     */
+    public IslandCoordinator<E> withTargetFitness(double targetFitness) {
+        hasTargetFitness = true;
+        this.targetFitness = targetFitness;
+        return this;
+    }
+
+    /**
+     * Starts listening on the loopback interface.
+     *
+     * @param port The port to listen on, or 0 for any free port
+     * @return The port the coordinator listens on, to be handed to the nodes
+     */
+    public int bind(int port) throws IOException {
+        serverSocket = new ServerSocket(port, nodeCount, InetAddress.getLoopbackAddress());
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts every node, relays migrants until all nodes are done and returns the fittest individual any node
+     * has reported.
+     */
+    public E run() throws IOException {
+        connections = new ArrayList<>(Collections.nCopies(nodeCount, null));
+        for (var i = 0; i < nodeCount; i++) {
+            var socket = serverSocket.accept();
+            var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            if (in.readUnsignedByte() != HELLO) {
+                throw new IOException("Node did not introduce itself.");
+            }
+            var index = in.readInt();
+            if (index < 0 || index >= nodeCount || connections.get(index) != null) {
+                throw new IOException("Node index " + index + " is invalid or taken.");
+            }
+            connections.set(index, new Connection(index, socket, in));
+        }
+        for (var connection : connections) {
+            for (var destination : topology.destinations(connection.index, nodeCount)) {
+                connection.destinations.add(connections.get(destination));
+            }
+        }
+
+        var readers = new ArrayList<Thread>(nodeCount);
+        for (var connection : connections) {
+            var reader = new Thread(connection::relay, "island-coordinator-" + connection.index);
+            reader.start();
+            readers.add(reader);
+        }
+        try {
+            for (var reader : readers) {
+                reader.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            broadcastStop();
+            throw new IOException("Interrupted while waiting for the nodes.", e);
+        }
+
+        for (var connection : connections) {
+            if (connection.failure != null) {
+                throw connection.failure;
+            }
+        }
+
+        return getBest();
+    }
+
+    public synchronized E getBest() {
+        return best;
+    }
+
+    public synchronized double getBestFitness() {
+        return bestFitness;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (connections != null) {
+            for (var connection : connections) {
+                if (connection != null) {
+                    connection.socket.close();
+                }
+            }
+        }
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+    }
+
+    /**
+     * Records a reported individual and returns whether the run has reached its target.
+     */
+    private synchronized boolean report(E individual, double fitness) {
+        if (best == null || (maximizing ? fitness > bestFitness : fitness < bestFitness)) {
+            best = individual;
+            bestFitness = fitness;
+        }
+
+        return hasTargetFitness && (maximizing ? bestFitness >= targetFitness : bestFitness <= targetFitness);
+    }
+
+    private void broadcastStop() {
+        for (var connection : connections) {
+            connection.send(out -> out.writeByte(STOP));
+        }
+    }
+
+    private interface Message {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    private class Connection {
+        private int index;
+        private Socket socket;
+        private DataInputStream in;
+        private DataOutputStream out;
+        private List<Connection> destinations;
+        private boolean done;
+        private IOException failure;
+
+        private Connection(int index, Socket socket, DataInputStream in) throws IOException {
+            this.index = index;
+            this.socket = socket;
+            this.in = in;
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            destinations = new ArrayList<>();
+        }
+
+        private void relay() {
+            try {
+                while (true) {
+                    var type = in.readUnsignedByte();
+                    if (type == MIGRANTS) {
+                        var count = in.readInt();
+                        var migrants = new ArrayList<Migrant<E>>(count);
+                        var reachedTarget = false;
+                        for (var i = 0; i < count; i++) {
+                            var fitness = in.readDouble();
+                            var individual = codec.decode(in);
+                            migrants.add(new Migrant<>(individual, fitness));
+                            reachedTarget |= report(individual, fitness);
+                        }
+                        for (var destination : destinations) {
+                            destination.send(out -> {
+                                out.writeByte(MIGRANTS);
+                                out.writeInt(migrants.size());
+                                for (var migrant : migrants) {
+                                    out.writeDouble(migrant.fitness);
+                                    codec.encode(migrant.individual, out);
+                                }
+                            });
+                        }
+                        if (reachedTarget) {
+                            broadcastStop();
+                        }
+                    } else if (type == DONE) {
+                        var fitness = in.readDouble();
+                        if (report(codec.decode(in), fitness)) {
+                            broadcastStop();
+                        }
+                        synchronized (this) {
+                            done = true;
+                        }
+                        return;
+                    } else {
+                        throw new IOException("Unknown message type " + type + " from node " + index + ".");
+                    }
+                }
+            } catch (EOFException e) {
+                failure = new IOException("Node " + index + " disconnected before finishing.", e);
+            } catch (IOException e) {
+                failure = e;
+            }
+            broadcastStop();
+        }
+
+        /**
+         * Writes a message to the node unless it has already finished. A node that has gone away can no longer
+         * take migrants, so failures to write are left for its own reader to report.
+         */
+        private synchronized void send(Message message) {
+            if (done) {
+                return;
+            }
+
+            try {
+                message.writeTo(out);
+                out.flush();
+            } catch (IOException e) {
+                done = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.slethron.geneticoptimization.island;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.GeneticOptimizer;
+import com.slethron.geneticoptimization.InPlaceOptimizer;
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+import com.slethron.geneticoptimization.util.RandomProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs an optimization as several islands, each evolving its own slice of the population on its own thread with
+ * a sequential {@link GenerationalEngine}. Islands never wait for one another. Every few generations each island
+ * copies its fittest individuals into the inboxes of the islands its {@link MigrationTopology} names, and takes
+ * in whatever has arrived in its own inbox, where each migrant replaces the least fit individual if it is
+ * fitter.
+ *
+ * <p>Migrants are handed over through lock-free queues. For an {@link InPlaceOptimizer} every migrant is a copy
+ * owned by the receiving island, since the sender keeps overwriting its own individuals.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public class IslandEngine<E> {
+    private GeneticOptimizer<E> optimizer;
+    private InPlaceOptimizer<E> inPlaceOptimizer;
+    private int islandCount;
+    private RandomProvider random;
+    private MigrationTopology topology;
+    private int migrationInterval;
+    private int migrantCount;
+    private boolean hasTargetFitness;
+    private double targetFitness;
+    
+    public IslandEngine(GeneticOptimizer<E> optimizer, int islandCount) {
+        this(optimizer, islandCount, new RandomProvider());
+    }
+    
+    public IslandEngine(GeneticOptimizer<E> optimizer, int islandCount, RandomProvider random) {
+        if (islandCount < 1) {
+            throw new IllegalArgumentException("An island engine needs at least one island.");
+        }
+        
+        this.optimizer = optimizer;
+        this.islandCount = islandCount;
+        this.random = random;
+        topology = MigrationTopology.RING;
+        migrationInterval = 10;
+        migrantCount = 2;
+        if (optimizer instanceof InPlaceOptimizer) {
+            inPlaceOptimizer = (InPlaceOptimizer<E>) optimizer;
+        }
+    }
+    
+    public IslandEngine<E> withTopology(MigrationTopology topology) {
+        this.topology = topology;
+        return this;
+    }
+    
+    /**
+     * @param migrationInterval The number of generations between migrations
+     * @return This engine
+     */
+    public IslandEngine<E> withMigrationInterval(int migrationInterval) {
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("Migration interval must be at least one generation.");
+        }
+        this.migrationInterval = migrationInterval;
+        return this;
+    }
+    
+    /**
+     * @param migrantCount The number of fittest individuals each island sends per migration
+     * @return This engine
+     */
+    public IslandEngine<E> withMigrantCount(int migrantCount) {
+        if (migrantCount < 0) {
+            throw new IllegalArgumentException("Migrant count cannot be negative.");
+        }
+        this.migrantCount = migrantCount;
+        return this;
+    }
+    
+    /**
+     * Stops every island as soon as one of them holds an individual at least as fit as the target.
+     *
+     * @return This engine
+     */
+    public IslandEngine<E> withTargetFitness(double targetFitness) {
+        hasTargetFitness = true;
+        this.targetFitness = targetFitness;
+        return this;
+    }
+    
+    /**
+     * Splits a population into contiguous slices, one per island, and evolves the islands concurrently.
+     *
+     * @param population         The initial population, at least one individual per island
+     * @param generationLimit    The number of generations each island breeds at most
+     * @param mutationRate       The probability of mutating each gene of a child
+     * @param fittestSampleRatio The fraction of the fittest individuals of an island parents are drawn from
+     * @return The final individuals of all islands, starting with the fittest slice in order of fitness
+     */
+    public List<E> optimize(List<E> population, int generationLimit, double mutationRate,
+                            double fittestSampleRatio) {
+        if (population.size() < islandCount) {
+            throw new IllegalArgumentException("Population must hold at least one individual per island.");
+        }
+        
+        var stopped = new AtomicBoolean();
+        var islands = new ArrayList<Island>(islandCount);
+        for (var i = 0; i < islandCount; i++) {
+            var from = (int) ((long) population.size() * i / islandCount);
+            var to = (int) ((long) population.size() * (i + 1) / islandCount);
+            islands.add(new Island(i, population.subList(from, to), stopped));
+        }
+        for (var island : islands) {
+            for (var destination : topology.destinations(island.index, islandCount)) {
+                island.outboxes.add(islands.get(destination).inbox);
+            }
+        }
+        
+        var executor = Executors.newFixedThreadPool(islandCount);
+        var finalPopulations = new ArrayList<ScoredPopulation<E>>(islandCount);
+        try {
+            var futures = new ArrayList<Future<ScoredPopulation<E>>>(islandCount);
+            for (var island : islands) {
+                futures.add(executor.submit(() -> island.evolve(generationLimit, mutationRate, fittestSampleRatio)));
+            }
+            for (var future : futures) {
+                finalPopulations.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            stopped.set(true);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("An island failed.", e.getCause());
+        } catch (InterruptedException e) {
+            stopped.set(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the islands.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        return merge(finalPopulations, fittestSampleRatio);
+    }
+    
+    private List<E> merge(List<ScoredPopulation<E>> populations, double fittestSampleRatio) {
+        var size = 0;
+        for (var population : populations) {
+            size += population.size();
+        }
+        
+        var merged = new ScoredPopulation<E>(size, optimizer.isMaximizing());
+        var slot = 0;
+        for (var population : populations) {
+            for (var i = 0; i < population.size(); i++) {
+                merged.set(slot++, population.get(i), population.getFitness(i));
+            }
+        }
+        merged.sortFittest(GenerationalEngine.sampleBound(merged, fittestSampleRatio), ExecutionContext.sequential());
+        
+        return merged.toList();
+    }
+    
+    private class Island {
+        private int index;
+        private List<E> initialPopulation;
+        private AtomicBoolean stopped;
+        private Queue<Migrant<E>> inbox;
+        private List<Queue<Migrant<E>>> outboxes;
+        
+        private Island(int index, List<E> initialPopulation, AtomicBoolean stopped) {
+            this.index = index;
+            this.initialPopulation = initialPopulation;
+            this.stopped = stopped;
+            inbox = new ConcurrentLinkedQueue<>();
+            outboxes = new ArrayList<>();
+        }
+        
+        private ScoredPopulation<E> evolve(int generationLimit, double mutationRate, double fittestSampleRatio) {
+            var execution = ExecutionContext.sequential();
+            var engine = new GenerationalEngine<>(optimizer, random.derive(index)).withExecution(execution);
+            var scored = engine.evaluate(initialPopulation);
+            for (var generation = 1; generation <= generationLimit && !stopped.get(); generation++) {
+                scored = engine.nextGeneration(scored, mutationRate, fittestSampleRatio);
+                if (hasTargetFitness && scored.compareFitness(
+                        scored.getFitness(scored.fittestIndex()), targetFitness) <= 0) {
+                    stopped.set(true);
+                } else if (generation % migrationInterval == 0) {
+                    emigrate(scored, execution);
+                    Migrant.settle(inbox, scored);
+                }
+            }
+            
+            return scored;
+        }
+        
+        private void emigrate(ScoredPopulation<E> population, ExecutionContext execution) {
+            var count = Math.min(migrantCount, population.size());
+            if (count == 0 || outboxes.isEmpty()) {
+                return;
+            }
+            
+            for (var selected : population.selectFittest(count, execution)) {
+                for (var outbox : outboxes) {
+                    var individual = population.get(selected);
+                    if (inPlaceOptimizer != null) {
+                        individual = inPlaceOptimizer.copy(individual);
+                    }
+                    outbox.offer(new Migrant<>(individual, population.getFitness(selected)));
+                }
+            }
+        }
+    }
+}
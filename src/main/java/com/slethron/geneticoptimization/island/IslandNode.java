@@ -0,0 +1,161 @@
+package com.slethron.geneticoptimization.island;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.GeneticOptimizer;
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.codec.GenomeCodec;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+import com.slethron.geneticoptimization.util.RandomProvider;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * One island of a distributed island model, usually the only one in its process. The node evolves its own
+ * population with a {@link GenerationalEngine} and exchanges migrants with the other nodes through an
+ * {@link IslandCoordinator} listening on the loopback interface. Incoming migrants are decoded into new
+ * individuals on a reader thread and settle into the population at the next migration.
+ *
+ * @param <E> The type of the individuals being optimized
+ */
+public class IslandNode<E> {
+    private GeneticOptimizer<E> optimizer;
+    private GenomeCodec<E> codec;
+    private RandomProvider random;
+    private ExecutionContext execution;
+    private int migrationInterval;
+    private int migrantCount;
+    private volatile boolean stopped;
+
+    public IslandNode(GeneticOptimizer<E> optimizer, GenomeCodec<E> codec, RandomProvider random) {
+        this.optimizer = optimizer;
+        this.codec = codec;
+        this.random = random;
+        execution = ExecutionContext.commonPool();
+        migrationInterval = 10;
+        migrantCount = 2;
+    }
+
+    /**
+     * Breeds and selects migrants on the threads of the given context, by default the common pool.
+     *
+     * @return This node
+     */
+    public IslandNode<E> withExecution(ExecutionContext execution) {
+        this.execution = execution;
+        return this;
+    }
+
+    /**
+     * @param migrationInterval The number of generations between migrations
+     * @return This node
+     */
+    public IslandNode<E> withMigrationInterval(int migrationInterval) {
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("Migration interval must be at least one generation.");
+        }
+        this.migrationInterval = migrationInterval;
+        return this;
+    }
+
+    /**
+     * @param migrantCount The number of fittest individuals sent per migration
+     * @return This node
+     */
+    public IslandNode<E> withMigrantCount(int migrantCount) {
+        if (migrantCount < 0) {
+            throw new IllegalArgumentException("Migrant count cannot be negative.");
+        }
+        this.migrantCount = migrantCount;
+        return this;
+    }
+
+    /**
+     * Connects to a coordinator and evolves a population until the generation limit or until the coordinator
+     * says stop, then reports the fittest individual of the node to the coordinator.
+     *
+     * @param port               The port the coordinator listens on
+     * @param index              The index of this node, between 0 and the coordinator's node count
+     * @param population         The initial population of this node
+     * @param generationLimit    The number of generations this node breeds at most
+     * @param mutationRate       The probability of mutating each gene of a child
+     * @param fittestSampleRatio The fraction of the fittest individuals parents are drawn from
+     * @return The fittest individual of this node
+     */
+    public E run(int port, int index, List<E> population, int generationLimit, double mutationRate,
+                 double fittestSampleRatio) throws IOException {
+        stopped = false;
+        try (var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            var out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            out.writeByte(IslandCoordinator.HELLO);
+            out.writeInt(index);
+            out.flush();
+
+            var inbox = new ConcurrentLinkedQueue<Migrant<E>>();
+            var reader = new Thread(() -> receive(in, inbox), "island-node-" + index);
+            reader.setDaemon(true);
+            reader.start();
+
+            var engine = new GenerationalEngine<>(optimizer, random).withExecution(execution);
+            var scored = engine.evaluate(population);
+            for (var generation = 1; generation <= generationLimit && !stopped; generation++) {
+                scored = engine.nextGeneration(scored, mutationRate, fittestSampleRatio);
+                if (generation % migrationInterval == 0) {
+                    emigrate(scored, out);
+                    Migrant.settle(inbox, scored);
+                }
+            }
+
+            var fittest = scored.fittestIndex();
+            out.writeByte(IslandCoordinator.DONE);
+            out.writeDouble(scored.getFitness(fittest));
+            codec.encode(scored.get(fittest), out);
+            out.flush();
+
+            return scored.get(fittest);
+        }
+    }
+
+    private void emigrate(ScoredPopulation<E> population, DataOutputStream out) throws IOException {
+        var count = Math.min(migrantCount, population.size());
+        var selected = count > 0 ? population.selectFittest(count, execution) : new int[0];
+        out.writeByte(IslandCoordinator.MIGRANTS);
+        out.writeInt(count);
+        for (var i = 0; i < count; i++) {
+            out.writeDouble(population.getFitness(selected[i]));
+            codec.encode(population.get(selected[i]), out);
+        }
+        out.flush();
+    }
+
+    private void receive(DataInputStream in, Queue<Migrant<E>> inbox) {
+        try {
+            while (true) {
+                var type = in.readUnsignedByte();
+                if (type == IslandCoordinator.STOP) {
+                    stopped = true;
+                } else if (type == IslandCoordinator.MIGRANTS) {
+                    var count = in.readInt();
+                    for (var i = 0; i < count; i++) {
+                        var fitness = in.readDouble();
+                        inbox.offer(new Migrant<>(codec.decode(in), fitness));
+                    }
+                } else {
+                    throw new IOException("Unknown message type " + type + " from the coordinator.");
+                }
+            }
+        } catch (IOException e) {
+            // The coordinator went away or the node closed its socket; either way there is nothing left to run for
+            stopped = true;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.slethron.geneticoptimization.island;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+
+import java.util.Queue;
+
+/**
+ * An individual on its way between islands, together with the score it had on the island it left.
+ */
+class Migrant<E> {
+    final E individual;
+    final double fitness;
+    
+    Migrant(E individual, double fitness) {
+        this.individual = individual;
+        this.fitness = fitness;
+    }
+    
+    /**
+     * Drains an inbox into a population, letting each migrant replace the least fit individual if it is fitter.
+     * The migrants must be owned by the receiving island.
+     */
+    static <E> void settle(Queue<Migrant<E>> inbox, ScoredPopulation<E> population) {
+        Migrant<E> migrant;
+        while ((migrant = inbox.poll()) != null) {
+            var leastFit = population.leastFitIndex();
+            if (population.compareFitness(migrant.fitness, population.getFitness(leastFit)) < 0) {
+                population.set(leastFit, migrant.individual, migrant.fitness);
+            }
+        }
+    }
+}
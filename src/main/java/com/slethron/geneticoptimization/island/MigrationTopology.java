@@ -0,0 +1,32 @@
+package com.slethron.geneticoptimization.island;
+
+/**
+ * Decides which islands receive the migrants of an island.
+ */
+public enum MigrationTopology {
+    /**
+     * Each island sends its migrants to the next island, and the last island to the first.
+     */
+    RING {
+        @Override
+        int[] destinations(int island, int islandCount) {
+            return islandCount == 1 ? new int[0] : new int[]{(island + 1) % islandCount};
+        }
+    },
+    
+    /**
+     * Each island sends its migrants to every other island.
+     */
+    FULLY_CONNECTED {
+        @Override
+        int[] destinations(int island, int islandCount) {
+            var destinations = new int[islandCount - 1];
+            for (var i = 1; i < islandCount; i++) {
+                destinations[i - 1] = (island + i) % islandCount;
+            }
+            return destinations;
+        }
+    };
+    
+    abstract int[] destinations(int island, int islandCount);
+}
@@ -0,0 +1,59 @@
+package com.slethron.geneticoptimization.main;
+
+import com.slethron.geneticoptimization.codec.NQueensBoardCodec;
+import com.slethron.geneticoptimization.island.IslandCoordinator;
+import com.slethron.geneticoptimization.island.IslandNode;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.util.RandomProvider;
+
+import java.io.File;
+import java.util.ArrayList;
+
+/**
+ * Solves an N-Queens board with one island per JVM. Started without arguments, the example runs the
+ * coordinator and launches the node JVMs itself on the same class path; each node is this class started with
+ * the arguments {@code node <port> <index>}.
+ */
+public class DistributedNQueensExample {
+    private static final int N = 40;
+    private static final int NODE_COUNT = 3;
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length == 3 && args[0].equals("node")) {
+            runNode(Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+            return;
+        }
+        
+        var nQueensProblem = new NQueensProblem(N);
+        try (var coordinator = new IslandCoordinator<>(new NQueensBoardCodec(), nQueensProblem.isMaximizing(),
+                NODE_COUNT).withTargetFitness(0)) {
+            var port = coordinator.bind(0);
+            
+            var java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+            var nodes = new ArrayList<Process>();
+            for (var i = 0; i < NODE_COUNT; i++) {
+                nodes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                        DistributedNQueensExample.class.getName(), "node", String.valueOf(port), String.valueOf(i))
+                        .inheritIO()
+                        .start());
+            }
+            
+            var solution = coordinator.run();
+            for (var node : nodes) {
+                node.waitFor();
+            }
+            
+            System.out.println(coordinator.getBestFitness());
+            System.out.println(solution.draw('&', '_'));
+        }
+    }
+    
+    private static void runNode(int port, int index) throws Exception {
+        var nQueensProblem = new NQueensProblem(N);
+        var random = new RandomProvider();
+        var population = nQueensProblem.generateInitialPopulation(1000, random);
+        new IslandNode<>(nQueensProblem, new NQueensBoardCodec(), random)
+                .withMigrationInterval(5)
+                .run(port, index, population, Integer.MAX_VALUE, .05, .2);
+    }
+}
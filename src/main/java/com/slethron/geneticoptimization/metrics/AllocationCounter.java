@@ -0,0 +1,65 @@
+package com.slethron.geneticoptimization.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures the bytes allocated between samples, where the JVM measures allocation per thread. Each thread's
+ * count is remembered by its id, so a thread that dies between two samples drops out of the next one instead of
+ * taking its earlier allocations with it. Whatever a thread allocated after the previous sample is lost when it
+ * dies before the next, so a sample can undercount but never goes negative.
+ */
+class AllocationCounter {
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private Map<Long, Long> allocatedByThread;
+
+    /**
+     * Starts counting from the allocations of the threads alive now.
+     */
+    AllocationCounter() {
+        allocatedByThread = new HashMap<>();
+        allocatedSinceLastSample();
+    }
+
+    /**
+     * Returns the bytes allocated since the previous sample by the threads alive now, or -1 if allocation is not
+     * measured. Threads started since the previous sample are counted from their start.
+     */
+    long allocatedSinceLastSample() {
+        if (THREADS == null) {
+            return -1;
+        }
+
+        var ids = THREADS.getAllThreadIds();
+        var allocated = THREADS.getThreadAllocatedBytes(ids);
+        var previous = allocatedByThread;
+        allocatedByThread = new HashMap<>(ids.length * 2);
+        var total = 0L;
+        for (var i = 0; i < ids.length; i++) {
+            // A thread that died after listing the ids reports -1
+            if (allocated[i] < 0) {
+                continue;
+            }
+            total += allocated[i] - previous.getOrDefault(ids[i], 0L);
+            allocatedByThread.put(ids[i], allocated[i]);
+        }
+
+        return total;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        var threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+
+        var sunThreads = (com.sun.management.ThreadMXBean) threads;
+        if (!sunThreads.isThreadAllocatedMemorySupported() || !sunThreads.isThreadAllocatedMemoryEnabled()) {
+            return null;
+        }
+
+        return sunThreads;
+    }
+}
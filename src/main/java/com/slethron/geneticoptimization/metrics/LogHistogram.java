@@ -0,0 +1,55 @@
+package com.slethron.geneticoptimization.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values in power-of-two buckets, which can be recorded into from many threads.
+ */
+class LogHistogram {
+    private LongAdder[] buckets;
+    
+    LogHistogram() {
+        buckets = new LongAdder[Long.SIZE];
+        for (var i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+    
+    void record(long value) {
+        buckets[Math.min(Long.SIZE - 1, Long.SIZE - Long.numberOfLeadingZeros(Math.max(0, value)))].increment();
+    }
+    
+    long[] counts() {
+        var counts = new long[buckets.length];
+        for (var i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        
+        return counts;
+    }
+    
+    /**
+     * Returns the upper bound of the bucket holding the given quantile of the recorded values.
+     */
+    long quantile(double quantile) {
+        var counts = counts();
+        var total = 0L;
+        for (var count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        
+        var rank = (long) Math.ceil(quantile * total);
+        var seen = 0L;
+        for (var i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i == 0 ? 0 : i >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << i;
+            }
+        }
+        
+        return Long.MAX_VALUE;
+    }
+}
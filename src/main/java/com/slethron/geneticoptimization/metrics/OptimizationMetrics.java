@@ -0,0 +1,236 @@
+package com.slethron.geneticoptimization.metrics;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects where the time of one optimization goes. Breeding workers add the time of each phase to striped
+ * counters, and the thread driving the run records the statistics of each finished generation. An engine
+ * without metrics skips all timing, so instrumentation costs nothing unless it is switched on.
+ *
+ * <p>Metrics are switched on for a single engine with {@code withMetrics}, or for every run started through
+ * the optimizer interfaces by setting the system property {@value #ENABLED_PROPERTY} to {@code true}. A run
+ * started that way registers its own MBean for as long as it runs.
+ */
+public class OptimizationMetrics implements OptimizationMetricsMBean, AutoCloseable {
+    public static final String ENABLED_PROPERTY = "geneticoptimization.metrics";
+
+    private static final boolean ENABLED_BY_PROPERTY = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final String DOMAIN = "com.slethron.geneticoptimization";
+    private static final int DIVERSITY_SAMPLE_SIZE = 64;
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    /**
+     * The phases of breeding a generation whose time is measured.
+     */
+    public enum Phase {
+        SELECTION, CROSSOVER, MUTATION, FITNESS
+    }
+
+    private LongAdder[] phaseNanos;
+    private LongAdder evaluations;
+    private LogHistogram generationNanos;
+    private long startNanos;
+    private volatile long generations;
+    private volatile long lastGenerationAllocatedBytes;
+    private volatile double bestFitness;
+    private volatile double meanFitness;
+    private volatile double worstFitness;
+    private volatile double fitnessStandardDeviation;
+    private volatile double sampledDiversity;
+    private AllocationCounter allocationCounter;
+    private ObjectName objectName;
+
+    public OptimizationMetrics() {
+        phaseNanos = new LongAdder[Phase.values().length];
+        for (var i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = new LongAdder();
+        }
+        evaluations = new LongAdder();
+        generationNanos = new LogHistogram();
+        startNanos = System.nanoTime();
+        allocationCounter = new AllocationCounter();
+    }
+
+    /**
+     * Creates metrics and registers them with the platform MBean server under the domain
+     * {@value #DOMAIN}, with the given name and a unique id.
+     */
+    public static OptimizationMetrics register(String name) {
+        var metrics = new OptimizationMetrics();
+        try {
+            metrics.objectName = new ObjectName(DOMAIN + ":type=Optimization,name=" + ObjectName.quote(name)
+                    + ",id=" + NEXT_ID.getAndIncrement());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, metrics.objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register optimization metrics.", e);
+        }
+
+        return metrics;
+    }
+
+    public static boolean isEnabledByProperty() {
+        return ENABLED_BY_PROPERTY;
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    public void recordPhase(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()].add(nanos);
+    }
+
+    public void recordEvaluations(long count) {
+        evaluations.add(count);
+    }
+
+    /**
+     * Records the statistics of a finished generation. Only called from the thread driving the run.
+     *
+     * @param population The finished generation
+     * @param nanos      The time it took to breed
+     */
+    public void recordGeneration(ScoredPopulation<?> population, long nanos) {
+        generationNanos.record(nanos);
+
+        lastGenerationAllocatedBytes = allocationCounter.allocatedSinceLastSample();
+
+        var best = population.getFitness(0);
+        var worst = best;
+        var sum = 0.0;
+        var sumOfSquares = 0.0;
+        for (var i = 0; i < population.size(); i++) {
+            var fitness = population.getFitness(i);
+            if (population.compareFitness(fitness, best) < 0) {
+                best = fitness;
+            }
+            if (population.compareFitness(fitness, worst) > 0) {
+                worst = fitness;
+            }
+            sum += fitness;
+            sumOfSquares += fitness * fitness;
+        }
+        var mean = sum / population.size();
+        bestFitness = best;
+        worstFitness = worst;
+        meanFitness = mean;
+        fitnessStandardDeviation = Math.sqrt(Math.max(0, sumOfSquares / population.size() - mean * mean));
+
+        var random = ThreadLocalRandom.current();
+        var sampleSize = Math.min(DIVERSITY_SAMPLE_SIZE, population.size());
+        var distinct = new HashSet<>();
+        for (var i = 0; i < sampleSize; i++) {
+            distinct.add(population.get(random.nextInt(population.size())));
+        }
+        sampledDiversity = (double) distinct.size() / sampleSize;
+
+        generations++;
+    }
+
+    @Override
+    public long getGenerations() {
+        return generations;
+    }
+
+    @Override
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    @Override
+    public double getEvaluationsPerSecond() {
+        var seconds = (System.nanoTime() - startNanos) / 1e9;
+        return seconds > 0 ? getEvaluations() / seconds : 0;
+    }
+
+    @Override
+    public long getSelectionNanos() {
+        return phaseNanos[Phase.SELECTION.ordinal()].sum();
+    }
+
+    @Override
+    public long getCrossoverNanos() {
+        return phaseNanos[Phase.CROSSOVER.ordinal()].sum();
+    }
+
+    @Override
+    public long getMutationNanos() {
+        return phaseNanos[Phase.MUTATION.ordinal()].sum();
+    }
+
+    @Override
+    public long getFitnessNanos() {
+        return phaseNanos[Phase.FITNESS.ordinal()].sum();
+    }
+
+    @Override
+    public long getLastGenerationAllocatedBytes() {
+        return lastGenerationAllocatedBytes;
+    }
+
+    @Override
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    @Override
+    public double getMeanFitness() {
+        return meanFitness;
+    }
+
+    @Override
+    public double getWorstFitness() {
+        return worstFitness;
+    }
+
+    @Override
+    public double getFitnessStandardDeviation() {
+        return fitnessStandardDeviation;
+    }
+
+    @Override
+    public double getSampledDiversity() {
+        return sampledDiversity;
+    }
+
+    @Override
+    public long getGenerationNanosP50() {
+        return generationNanos.quantile(.5);
+    }
+
+    @Override
+    public long getGenerationNanosP99() {
+        return generationNanos.quantile(.99);
+    }
+
+    @Override
+    public long[] getGenerationNanosHistogram() {
+        return generationNanos.counts();
+    }
+
+    /**
+     * Unregisters the MBean, if these metrics were registered.
+     */
+    @Override
+    public void close() {
+        if (objectName == null) {
+            return;
+        }
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not unregister optimization metrics.", e);
+        } finally {
+            objectName = null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.slethron.geneticoptimization.metrics;
+
+/**
+ * The attributes of a running optimization as shown over JMX. Times are totals over the run in nanoseconds
+ * unless stated otherwise; the fitness attributes describe the latest generation.
+ */
+public interface OptimizationMetricsMBean {
+    long getGenerations();
+    
+    long getEvaluations();
+    
+    double getEvaluationsPerSecond();
+    
+    long getSelectionNanos();
+    
+    long getCrossoverNanos();
+    
+    long getMutationNanos();
+    
+    long getFitnessNanos();
+    
+    /**
+     * Returns the bytes allocated by all threads during the latest generation, or -1 if the JVM does not
+     * measure allocation per thread. Bytes allocated by a thread that died before the generation ended are not
+     * counted.
+     */
+    long getLastGenerationAllocatedBytes();
+    
+    double getBestFitness();
+    
+    double getMeanFitness();
+    
+    double getWorstFitness();
+    
+    double getFitnessStandardDeviation();
+    
+    /**
+     * Returns the fraction of distinct individuals in a random sample of the latest generation.
+     */
+    double getSampledDiversity();
+    
+    long getGenerationNanosP50();
+    
+    long getGenerationNanosP99();
+    
+    /**
+     * Returns the number of generations whose duration in nanoseconds has each bit length, so bucket i counts
+     * the generations that took from 2^(i-1) up to 2^i nanoseconds.
+     */
+    long[] getGenerationNanosHistogram();
+}
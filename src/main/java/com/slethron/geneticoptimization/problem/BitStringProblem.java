@@ -1,42 +1,29 @@
 package com.slethron.geneticoptimization.problem;
 
 import com.slethron.geneticoptimization.DeterministicOptimizer;
+import com.slethron.geneticoptimization.InPlaceOptimizer;
 import com.slethron.geneticoptimization.PopulationGenerator;
 import com.slethron.geneticoptimization.domain.BitString;
 import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import com.slethron.geneticoptimization.util.RandomProvider;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
-
-public class BitStringProblem extends PopulationGenerator<BitString> implements DeterministicOptimizer<BitString> {
-    private Random random;
+public class BitStringProblem extends PopulationGenerator<BitString> implements DeterministicOptimizer<BitString>,
+        InPlaceOptimizer<BitString> {
     private int length;
     
     public BitStringProblem(int length) {
-        random = new Random();
         this.length = length;
     }
     
     @Override
-    public List<BitString> generateInitialPopulation(int populationSize) {
-        var population = new ArrayList<BitString>();
-        for (var i = 0; i < populationSize; i++) {
-            population.add(RandomGeneratorUtil.generateRandomBitString(length));
-        }
-        
-        return population;
+    protected BitString generateIndividual() {
+        return RandomGeneratorUtil.generateRandomBitString(length);
     }
     
     @Override
     public BitString generateIndividualFromParents(BitString parentA, BitString parentB) {
-        var split = random.nextInt(parentA.length());
-        var child = new BitString(parentA);
-        for (var i = 0; i < parentA.length(); i++) {
-            if (i > split) {
-                child.set(i, parentB.get(i));
-            }
-        }
+        var child = new BitString(parentA.length());
+        crossoverInto(parentA, parentB, child);
         
         return child;
     }
@@ -44,24 +31,66 @@ public class BitStringProblem extends PopulationGenerator<BitString> implements
     @Override
     public BitString mutate(BitString individual, double mutationRate) {
         var mutated = new BitString(individual);
-        for (var i = 0; i < mutated.length(); i++) {
-            if (random.nextDouble() <= mutationRate) {
-                mutated.set(i, !mutated.get(i));
-            }
-        }
+        mutateInPlace(mutated, mutationRate);
         
         return mutated;
     }
     
     @Override
-    public double fitness(BitString individual) {
-        var fitVal = 0;
-        for (var i = 0; i < individual.length(); i++) {
-            if (!individual.get(i)) {
-                fitVal++;
+    public BitString copy(BitString individual) {
+        return new BitString(individual);
+    }
+    
+    @Override
+    public void crossoverInto(BitString parentA, BitString parentB, BitString target) {
+        var random = RandomProvider.current();
+        var split = random.nextInt(parentA.length());
+        var splitWord = split / Long.SIZE;
+        for (var i = 0; i < splitWord; i++) {
+            target.setWord(i, parentA.getWord(i));
+        }
+        
+        // Bits up to and including the split come from parent A, the rest of the word from parent B
+        var mask = -1L >>> (Long.SIZE - 1 - split % Long.SIZE);
+        target.setWord(splitWord, parentA.getWord(splitWord) & mask | parentB.getWord(splitWord) & ~mask);
+        
+        for (var i = splitWord + 1; i < target.wordCount(); i++) {
+            target.setWord(i, parentB.getWord(i));
+        }
+    }
+    
+    /**
+     * Flips each bit with probability mutationRate. Rather than drawing one random number per bit, the gap to
+     * the next flipped bit is drawn from the matching geometric distribution, so the cost is proportional to
+     * the number of flips.
+     */
+    @Override
+    public void mutateInPlace(BitString target, double mutationRate) {
+        var random = RandomProvider.current();
+        if (mutationRate <= 0) {
+            return;
+        }
+        
+        if (mutationRate >= 1) {
+            for (var i = 0; i < target.wordCount(); i++) {
+                target.setWord(i, ~target.getWord(i));
             }
+            return;
         }
         
-        return fitVal;
+        var logOfSkipProbability = Math.log(1 - mutationRate);
+        var position = -1.0;
+        while (true) {
+            position += 1 + Math.floor(Math.log(1 - random.nextDouble()) / logOfSkipProbability);
+            if (!(position < target.length())) {
+                break;
+            }
+            target.flip((int) position);
+        }
+    }
+    
+    @Override
+    public double fitness(BitString individual) {
+        return individual.length() - individual.cardinality();
     }
 }
@@ -1,102 +1,159 @@
 package com.slethron.geneticoptimization.problem;
 
-import com.slethron.geneticoptimization.GeneticOptimizer;
+import com.slethron.geneticoptimization.InPlaceOptimizer;
 import com.slethron.geneticoptimization.PopulationGenerator;
 import com.slethron.geneticoptimization.domain.Knapsack;
 import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import com.slethron.geneticoptimization.util.RandomProvider;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
-public class KnapsackProblem extends PopulationGenerator<Knapsack> implements GeneticOptimizer<Knapsack> {
-    private Random random;
+public class KnapsackProblem extends PopulationGenerator<Knapsack> implements InPlaceOptimizer<Knapsack> {
+    private static final int MAX_REPLACEMENT_ATTEMPTS = 32;
+    
     private int maxWeight;
-    private List<Knapsack.KnapsackItem> itemsToPut;
+    private Knapsack.ItemCatalog catalog;
+    private ThreadLocal<int[]> indexScratch;
     
     public KnapsackProblem(int maxWeight, List<Knapsack.KnapsackItem> itemsToPut) {
-        random = new Random();
         this.maxWeight = maxWeight;
-        this.itemsToPut = itemsToPut;
+        catalog = new Knapsack.ItemCatalog(itemsToPut);
+        indexScratch = ThreadLocal.withInitial(() -> new int[catalog.size()]);
     }
     
-    @Override
-    public List<Knapsack> optimize(List<Knapsack> population, int generationLimit, double mutationRate, double fittestSampleRatio) {
-        for (var generation = 0; generation < generationLimit; generation++) {
-            var p = population;
-            population = population.parallelStream()
-                    .map(individual -> {
-                        var sampleBound = (int) Math.round(p.size() * fittestSampleRatio);
-                        var child = generateIndividualFromParents(
-                                p.get(ThreadLocalRandom.current().nextInt(sampleBound)),
-                                p.get(ThreadLocalRandom.current().nextInt(sampleBound)));
-                        
-                        child = mutate(child, mutationRate);
-                        
-                        return child;
-                    }).sorted(Comparator.comparingDouble(this::fitness).reversed())
-                    .collect(Collectors.toList());
-        }
-
-        return population;
+    /**
+     * Returns the catalog every knapsack bred or mutated by this problem must be built on.
+     */
+    public Knapsack.ItemCatalog getCatalog() {
+        return catalog;
     }
     
     @Override
-    public List<Knapsack> generateInitialPopulation(int populationSize) {
-        return IntStream.range(0, populationSize)
-                .parallel().unordered()
-                .mapToObj(knapsack -> RandomGeneratorUtil.generateRandomKnapsack(maxWeight, itemsToPut))
-                .collect(Collectors.toList());
+    protected Knapsack generateIndividual() {
+        return RandomGeneratorUtil.generateRandomKnapsack(maxWeight, catalog);
     }
     
     @Override
     public Knapsack generateIndividualFromParents(Knapsack parentA, Knapsack parentB) {
-        var child = new Knapsack(maxWeight);
-        var items = new ArrayList<>(parentA.getItems());
-        for (var item : parentB.getItems()) {
-            if (!items.contains(item)) {
-                items.add(item);
+        var child = new Knapsack(maxWeight, catalog);
+        crossoverInto(parentA, parentB, child);
+        
+        return child;
+    }
+    
+    @Override
+    public Knapsack mutate(Knapsack individual, double mutationRate) {
+        var mutated = copy(individual);
+        mutateInPlace(mutated, mutationRate);
+        
+        return mutated;
+    }
+    
+    @Override
+    public Knapsack copy(Knapsack individual) {
+        return new Knapsack(individual);
+    }
+    
+    /**
+     * Offers the items of either parent to the child in random order, putting each one that still fits.
+     */
+    @Override
+    public void crossoverInto(Knapsack parentA, Knapsack parentB, Knapsack target) {
+        checkCatalog(parentA);
+        checkCatalog(parentB);
+        checkCatalog(target);
+        var random = RandomProvider.current();
+        var union = indexScratch.get();
+        var unionSize = 0;
+        var words = Math.max(parentA.wordCount(), parentB.wordCount());
+        for (var word = 0; word < words; word++) {
+            for (var bits = parentA.getWord(word) | parentB.getWord(word); bits != 0; bits &= bits - 1) {
+                union[unionSize++] = (word << 6) + Long.numberOfTrailingZeros(bits);
             }
         }
         
-        while (!items.isEmpty()) {
-            var itemToPut = items.get(random.nextInt(items.size()));
-            child.put(itemToPut);
-            items.remove(itemToPut);
+        target.clear();
+        for (var i = unionSize - 1; i >= 0; i--) {
+            var j = random.nextInt(i + 1);
+            var index = union[j];
+            union[j] = union[i];
+            target.put(index);
         }
-        
-        return child;
     }
     
+    /**
+     * Replaces each held item with the mutation probability by a random item the knapsack does not hold. When
+     * the replacement does not fit, the original item is put back.
+     */
     @Override
-    public Knapsack mutate(Knapsack individual, double mutationRate) {
-        var items = new ArrayList<>(itemsToPut);
-        var mutated = new Knapsack(individual);
-        for (var i = mutated.getItems().size(); i >= 1; i--) {
-            if (random.nextDouble() <= mutationRate) {
-                while (true) {
-                    var replacementItem = items.get(random.nextInt(items.size()));
-                    if (!mutated.getItems().contains(replacementItem)) {
-                        mutated.getItems().remove(i - 1);
-                        if (mutated.put(replacementItem)) {
-                            break;
-                        }
-                        return individual;
-                    }
-                    items.remove(replacementItem);
-                }
+    public void mutateInPlace(Knapsack target, double mutationRate) {
+        checkCatalog(target);
+        var random = RandomProvider.current();
+        var held = indexScratch.get();
+        var heldCount = 0;
+        for (var word = 0; word < target.wordCount(); word++) {
+            for (var bits = target.getWord(word); bits != 0; bits &= bits - 1) {
+                held[heldCount++] = (word << 6) + Long.numberOfTrailingZeros(bits);
             }
         }
         
-        return mutated;
+        for (var i = 0; i < heldCount; i++) {
+            if (random.nextDouble() > mutationRate) {
+                continue;
+            }
+            
+            var replacement = findUnheldItem(target, random);
+            if (replacement == -1) {
+                return;
+            }
+            target.remove(held[i]);
+            if (!target.put(replacement)) {
+                target.put(held[i]);
+            }
+        }
+    }
+    
+    /**
+     * Rejects a knapsack built on another catalog, whose item indices mean different items in this one.
+     */
+    private void checkCatalog(Knapsack knapsack) {
+        if (knapsack.getCatalog() != catalog) {
+            throw new IllegalArgumentException("Knapsack was not built on the catalog of this problem.");
+        }
+    }
+    
+    /**
+     * Draws catalog indices until one the knapsack does not hold comes up, falling back to a scan from a random
+     * start when the knapsack holds most of the catalog.
+     */
+    private int findUnheldItem(Knapsack knapsack, Random random) {
+        var size = catalog.size();
+        for (var attempt = 0; attempt < MAX_REPLACEMENT_ATTEMPTS; attempt++) {
+            var index = random.nextInt(size);
+            if (!knapsack.contains(index)) {
+                return index;
+            }
+        }
+        
+        var start = random.nextInt(size);
+        for (var i = 0; i < size; i++) {
+            var index = (start + i) % size;
+            if (!knapsack.contains(index)) {
+                return index;
+            }
+        }
+        
+        return -1;
     }
     
     @Override
     public double fitness(Knapsack individual) {
         return individual.getTotalValue();
     }
+    
+    @Override
+    public boolean isMaximizing() {
+        return true;
+    }
 }
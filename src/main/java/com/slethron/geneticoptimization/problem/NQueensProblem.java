@@ -1,76 +1,194 @@
 package com.slethron.geneticoptimization.problem;
 
 import com.slethron.geneticoptimization.DeterministicOptimizer;
+import com.slethron.geneticoptimization.GeneChanges;
+import com.slethron.geneticoptimization.InPlaceOptimizer;
+import com.slethron.geneticoptimization.IncrementalOptimizer;
 import com.slethron.geneticoptimization.PopulationGenerator;
 import com.slethron.geneticoptimization.domain.NQueensBoard;
 import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import com.slethron.geneticoptimization.util.RandomProvider;
 
-import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+public class NQueensProblem extends PopulationGenerator<NQueensBoard> implements DeterministicOptimizer<NQueensBoard>,
+        InPlaceOptimizer<NQueensBoard>, IncrementalOptimizer<NQueensBoard> {
+    // Updating a score costs O(n) per moved queen against O(n) for a full count. NQueensProblemBenchmark shows a
+    // single moved queen updating faster than a full count, while two already take about twice as long
+    private static final int MAX_INCREMENTAL_CHANGES = 1;
 
-public class NQueensProblem extends PopulationGenerator<NQueensBoard> implements DeterministicOptimizer<NQueensBoard> {
-    private Random random;
     private int n;
+    private ThreadLocal<ConflictCounters> conflictCounters;
 
     public NQueensProblem(int n) {
-        random = new Random();
         this.n = n;
+        conflictCounters = ThreadLocal.withInitial(() -> new ConflictCounters(n));
     }
 
     @Override
-    public List<NQueensBoard> generateInitialPopulation(int populationSize) {
-        return IntStream.range(0, populationSize)
-                .parallel().unordered()
-                .mapToObj(nQueensBoard -> RandomGeneratorUtil.generateRandomNQueensBoard(n))
-                .collect(Collectors.toList());
+    protected NQueensBoard generateIndividual() {
+        return RandomGeneratorUtil.generateRandomNQueensBoard(n);
     }
 
     @Override
     public NQueensBoard generateIndividualFromParents(NQueensBoard parentA, NQueensBoard parentB) {
-        var split = random.nextInt(parentA.length());
-        var board = new int[parentA.length()];
+        var child = new NQueensBoard(new int[parentA.length()]);
+        crossoverInto(parentA, parentB, child);
+
+        return child;
+    }
+
+    @Override
+    public NQueensBoard mutate(NQueensBoard individual, double mutationRate) {
+        var mutated = new NQueensBoard(individual);
+        mutateInPlace(mutated, mutationRate);
+
+        return mutated;
+    }
+
+    @Override
+    public NQueensBoard copy(NQueensBoard individual) {
+        return new NQueensBoard(individual);
+    }
+
+    @Override
+    public void crossoverInto(NQueensBoard parentA, NQueensBoard parentB, NQueensBoard target) {
+        crossoverAt(parentA, parentB, target, RandomProvider.current().nextInt(parentA.length()));
+    }
+
+    private static void crossoverAt(NQueensBoard parentA, NQueensBoard parentB, NQueensBoard target, int split) {
         for (var i = 0; i < parentA.length(); i++) {
             if (i <= split) {
-                board[i] = parentA.get(i);
+                target.set(i, parentA.get(i));
             } else {
-                board[i] = parentB.get(i);
+                target.set(i, parentB.get(i));
             }
         }
+    }
 
-        return new NQueensBoard(board);
+    @Override
+    public void mutateInPlace(NQueensBoard target, double mutationRate) {
+        var random = RandomProvider.current();
+        for (var column = 0; column < target.length(); column++) {
+            if (random.nextDouble() <= mutationRate) {
+                var row = random.nextInt(target.length());
+                target.set(column, row);
+            }
+        }
     }
 
     @Override
-    public NQueensBoard mutate(NQueensBoard individual, double mutationRate) {
-        var mutated = new NQueensBoard(individual);
-        for (var column = 0; column < individual.length(); column++) {
+    public void crossoverInto(NQueensBoard parentA, NQueensBoard parentB, NQueensBoard target,
+                              GeneChanges changes) {
+        var split = RandomProvider.current().nextInt(parentA.length());
+        crossoverAt(parentA, parentB, target, split);
+        // Columns up to the split come from parent A, so only the tail can differ. A tail too long to be updated
+        // is not worth comparing either
+        if (parentA.length() - 1 - split > MAX_INCREMENTAL_CHANGES) {
+            changes.markAllChanged();
+            return;
+        }
+        for (var i = split + 1; i < parentA.length(); i++) {
+            if (target.get(i) != parentA.get(i)) {
+                changes.add(i);
+            }
+        }
+    }
+
+    @Override
+    public void mutateInPlace(NQueensBoard target, double mutationRate, GeneChanges changes) {
+        var random = RandomProvider.current();
+        for (var column = 0; column < target.length(); column++) {
             if (random.nextDouble() <= mutationRate) {
-                var row = random.nextInt(individual.length());
-                mutated.set(column, row);
+                var row = random.nextInt(target.length());
+                target.set(column, row);
+                changes.add(column);
             }
         }
+    }
 
-        return mutated;
+    /**
+     * Updates the conflict count of the reference board by the conflicts the moved queen loses and gains. Every
+     * other queen stands where it stood on the reference board.
+     */
+    @Override
+    public double fitness(NQueensBoard individual, NQueensBoard reference, double referenceFitness,
+                          GeneChanges changes) {
+        if (changes.isAllChanged() || changes.size() > MAX_INCREMENTAL_CHANGES) {
+            return fitness(individual);
+        }
+        if (changes.size() == 0) {
+            return referenceFitness;
+        }
+
+        var numberOfConflicts = (int) referenceFitness;
+        var column = changes.get(0);
+        var row = individual.get(column);
+        var referenceRow = reference.get(column);
+        for (var other = 0; other < individual.length(); other++) {
+            if (other == column) {
+                continue;
+            }
+            var otherRow = individual.get(other);
+            if (attacks(row, column, otherRow, other)) {
+                numberOfConflicts++;
+            }
+            if (attacks(referenceRow, column, otherRow, other)) {
+                numberOfConflicts--;
+            }
+        }
+
+        return numberOfConflicts;
+    }
+
+    private static boolean attacks(int row, int column, int otherRow, int otherColumn) {
+        return row == otherRow || Math.abs(row - otherRow) == Math.abs(column - otherColumn);
     }
 
+    /**
+     * Counts the pairs of queens that attack each other. Instead of comparing every pair, each queen is added to
+     * a counter for its row, its diagonal and its anti-diagonal; a queen entering a bucket that already holds k
+     * queens adds k conflicts, which sums to k * (k - 1) / 2 per bucket. Two queens in different columns can
+     * share at most one bucket, so this matches the pairwise count.
+     */
     @Override
     public double fitness(NQueensBoard individual) {
+        var length = individual.length();
+        var counters = conflictCounters.get();
+        if (counters.rows.length < length) {
+            counters = new ConflictCounters(length);
+            conflictCounters.set(counters);
+        }
+
+        var rows = counters.rows;
+        var diagonals = counters.diagonals;
+        var antiDiagonals = counters.antiDiagonals;
         var numberOfConflicts = 0;
-        for (var currentQueen = 0; currentQueen < individual.length() - 1; currentQueen++) {
-            for (var nextQueen = currentQueen + 1; nextQueen < individual.length(); nextQueen++) {
-                if (individual.get(currentQueen) == individual.get(nextQueen)) {
-                    numberOfConflicts++;
-                    continue;
-                }
-                if (Math.abs(individual.get(nextQueen) - individual.get(currentQueen))
-                        == Math.abs(nextQueen - currentQueen)) {
-                    numberOfConflicts++;
-                }
-            }
+        for (var column = 0; column < length; column++) {
+            var row = individual.get(column);
+            numberOfConflicts += rows[row]++;
+            numberOfConflicts += diagonals[row - column + length - 1]++;
+            numberOfConflicts += antiDiagonals[row + column]++;
+        }
+
+        // Only the touched buckets need resetting, which keeps the scratch arrays reusable at O(n) cost
+        for (var column = 0; column < length; column++) {
+            var row = individual.get(column);
+            rows[row] = 0;
+            diagonals[row - column + length - 1] = 0;
+            antiDiagonals[row + column] = 0;
         }
 
         return numberOfConflicts;
     }
+
+    private static class ConflictCounters {
+        private int[] rows;
+        private int[] diagonals;
+        private int[] antiDiagonals;
+
+        private ConflictCounters(int n) {
+            rows = new int[n];
+            diagonals = new int[2 * n - 1];
+            antiDiagonals = new int[2 * n - 1];
+        }
+    }
 }
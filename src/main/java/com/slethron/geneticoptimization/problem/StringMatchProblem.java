@@ -1,34 +1,41 @@
 package com.slethron.geneticoptimization.problem;
 
 import com.slethron.geneticoptimization.DeterministicOptimizer;
+import com.slethron.geneticoptimization.GeneChanges;
+import com.slethron.geneticoptimization.IncrementalOptimizer;
 import com.slethron.geneticoptimization.PopulationGenerator;
+import com.slethron.geneticoptimization.util.FitnessKernels;
 import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import com.slethron.geneticoptimization.util.RandomProvider;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Random;
 
-public class StringMatchProblem extends PopulationGenerator<String> implements DeterministicOptimizer<String> {
-    private Random random;
+/**
+ * Evolves strings towards a target, scoring each string by the summed distance of its characters to the target's.
+ * Generated and mutated characters are always printable ASCII, so for an ASCII target whole strings are scored
+ * eight characters at a time. Individuals with other characters are still scored exactly, one character at a time.
+ */
+public class StringMatchProblem extends PopulationGenerator<String> implements DeterministicOptimizer<String>,
+        IncrementalOptimizer<String> {
     private String target;
+    private byte[] asciiTarget;
     
     public StringMatchProblem(String target) {
-        random = new Random();
         this.target = target;
+        if (FitnessKernels.isAscii(target)) {
+            asciiTarget = target.getBytes(StandardCharsets.US_ASCII);
+        }
     }
     
     @Override
-    public List<String> generateInitialPopulation(int populationSize) {
-        var population = new ArrayList<String>();
-        for (var i = 0; i < populationSize; i++) {
-            population.add(RandomGeneratorUtil.generateRandomString(target.length()));
-        }
-        
-        return population;
+    protected String generateIndividual() {
+        return RandomGeneratorUtil.generateRandomString(target.length());
     }
     
     @Override
     public String generateIndividualFromParents(String parentA, String parentB) {
+        var random = RandomProvider.current();
         var split = random.nextInt(parentA.length());
         var child = new StringBuilder();
         for (var i = 0; i < parentA.length(); i++) {
@@ -44,11 +51,41 @@ public class StringMatchProblem extends PopulationGenerator<String> implements D
     
     @Override
     public String mutate(String individual, double rateOfMutation) {
+        var random = RandomProvider.current();
+        var sb = new StringBuilder();
+        for (var i = 0; i < individual.length(); i++) {
+            if (random.nextDouble() <= rateOfMutation) {
+                var mutation = random.nextInt(127 - 32) + 32;
+                sb.append(Character.toChars(mutation));
+            } else {
+                sb.append(individual.charAt(i));
+            }
+        }
+        
+        return sb.toString();
+    }
+    
+    @Override
+    public String generateIndividualFromParents(String parentA, String parentB, GeneChanges changes) {
+        var child = generateIndividualFromParents(parentA, parentB);
+        for (var i = 0; i < child.length(); i++) {
+            if (child.charAt(i) != parentA.charAt(i)) {
+                changes.add(i);
+            }
+        }
+        
+        return child;
+    }
+    
+    @Override
+    public String mutate(String individual, double rateOfMutation, GeneChanges changes) {
+        var random = RandomProvider.current();
         var sb = new StringBuilder();
         for (var i = 0; i < individual.length(); i++) {
             if (random.nextDouble() <= rateOfMutation) {
                 var mutation = random.nextInt(127 - 32) + 32;
                 sb.append(Character.toChars(mutation));
+                changes.add(i);
             } else {
                 sb.append(individual.charAt(i));
             }
@@ -57,8 +94,27 @@ public class StringMatchProblem extends PopulationGenerator<String> implements D
         return sb.toString();
     }
     
+    /**
+     * Updates the distance of the reference string by the per-character distance at each changed position.
+     */
+    @Override
+    public double fitness(String individual, String reference, double referenceFitness, GeneChanges changes) {
+        var fitVal = (int) referenceFitness;
+        for (var i = 0; i < changes.size(); i++) {
+            var position = changes.get(i);
+            fitVal += Math.abs(target.charAt(position) - individual.charAt(position))
+                    - Math.abs(target.charAt(position) - reference.charAt(position));
+        }
+        
+        return fitVal;
+    }
+    
     @Override
     public double fitness(String individual) {
+        if (asciiTarget != null) {
+            return FitnessKernels.sumOfAbsoluteDifferences(individual, asciiTarget);
+        }
+        
         var fitVal = 0;
         for (var i = 0; i < individual.length(); i++) {
             fitVal += Math.abs(target.charAt(i) - individual.charAt(i));
@@ -66,4 +122,20 @@ public class StringMatchProblem extends PopulationGenerator<String> implements D
         
         return fitVal;
     }
+    
+    /**
+     * Scores a batch of individuals in one call.
+     *
+     * @param scores Receives the score of every individual, in the order of the batch
+     */
+    public void fitness(List<String> individuals, double[] scores) {
+        if (asciiTarget != null) {
+            FitnessKernels.sumsOfAbsoluteDifferences(individuals, asciiTarget, scores);
+            return;
+        }
+        
+        for (var i = 0; i < individuals.size(); i++) {
+            scores[i] = fitness(individuals.get(i));
+        }
+    }
 }
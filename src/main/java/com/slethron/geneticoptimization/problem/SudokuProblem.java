@@ -1,98 +1,152 @@
 package com.slethron.geneticoptimization.problem;
 
 import com.slethron.geneticoptimization.DeterministicOptimizer;
+import com.slethron.geneticoptimization.GeneChanges;
+import com.slethron.geneticoptimization.InPlaceOptimizer;
+import com.slethron.geneticoptimization.IncrementalOptimizer;
 import com.slethron.geneticoptimization.PopulationGenerator;
 import com.slethron.geneticoptimization.domain.SudokuBoard;
+import com.slethron.geneticoptimization.util.RandomProvider;
 
-import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-
-public class SudokuProblem extends PopulationGenerator<SudokuBoard> implements DeterministicOptimizer<SudokuBoard> {
-    private Random random;
+public class SudokuProblem extends PopulationGenerator<SudokuBoard> implements DeterministicOptimizer<SudokuBoard>,
+        InPlaceOptimizer<SudokuBoard>, IncrementalOptimizer<SudokuBoard> {
     private SudokuBoard unsolvedBoard;
 
     public SudokuProblem(SudokuBoard unsolvedBoard) {
-        random = new Random();
         this.unsolvedBoard = unsolvedBoard;
     }
 
     @Override
-    public List<SudokuBoard> generateInitialPopulation(int populationSize) {
-        return IntStream.range(0, populationSize)
-                .parallel().unordered()
-                .mapToObj(sudokuBoard -> mutate(unsolvedBoard, 1))
-                .collect(Collectors.toList());
+    protected SudokuBoard generateIndividual() {
+        return mutate(unsolvedBoard, 1);
     }
 
     @Override
     public SudokuBoard generateIndividualFromParents(SudokuBoard parentA, SudokuBoard parentB) {
+        var child = new SudokuBoard(parentA);
+        crossoverInto(parentA, parentB, child);
+
+        return child;
+    }
+
+    @Override
+    public SudokuBoard mutate(SudokuBoard individual, double mutationRate) {
+        var mutated = new SudokuBoard(individual);
+        mutateInPlace(mutated, mutationRate);
+
+        return mutated;
+    }
+
+    @Override
+    public SudokuBoard copy(SudokuBoard individual) {
+        return new SudokuBoard(individual);
+    }
+
+    /**
+     * Copies the cells up to and including a random split cell from parent A and the rest from parent B. Both
+     * parents belong to the same puzzle, so their static cells are equal and whole ranges can be copied.
+     */
+    @Override
+    public void crossoverInto(SudokuBoard parentA, SudokuBoard parentB, SudokuBoard target) {
+        var random = RandomProvider.current();
         var splitRow = random.nextInt(SudokuBoard.SIZE);
         var splitColumn = random.nextInt(SudokuBoard.SIZE);
-        var board = new int[SudokuBoard.SIZE][SudokuBoard.SIZE];
-        for (var row = 0; row < SudokuBoard.SIZE; row++) {
-            for (var column = 0; column < SudokuBoard.SIZE; column++) {
-                if (row < splitRow || row == splitRow && column <= splitColumn) {
-                    board[row][column] = parentA.get(row, column);
-                } else {
-                    board[row][column] = parentB.get(row, column);
-                }
+        var split = splitRow * SudokuBoard.SIZE + splitColumn + 1;
+        target.copyCells(parentA, 0, split);
+        target.copyCells(parentB, split, SudokuBoard.CELL_COUNT);
+    }
+
+    @Override
+    public void mutateInPlace(SudokuBoard target, double mutationRate) {
+        var random = RandomProvider.current();
+        for (var cell = 0; cell < SudokuBoard.CELL_COUNT; cell++) {
+            if (target.isStatic(cell)) {
+                continue;
+            }
+            if (random.nextDouble() <= mutationRate) {
+                var value = random.nextInt(SudokuBoard.SIZE) + 1;
+                target.set(cell, value);
+            }
+        }
+    }
+
+    @Override
+    public void crossoverInto(SudokuBoard parentA, SudokuBoard parentB, SudokuBoard target, GeneChanges changes) {
+        crossoverInto(parentA, parentB, target);
+        for (var cell = 0; cell < SudokuBoard.CELL_COUNT; cell++) {
+            if (target.get(cell) != parentA.get(cell)) {
+                changes.add(cell);
             }
         }
+    }
 
-        return new SudokuBoard(board, parentA.getStaticCells());
+    @Override
+    public void mutateInPlace(SudokuBoard target, double mutationRate, GeneChanges changes) {
+        var random = RandomProvider.current();
+        for (var cell = 0; cell < SudokuBoard.CELL_COUNT; cell++) {
+            if (target.isStatic(cell)) {
+                continue;
+            }
+            if (random.nextDouble() <= mutationRate) {
+                var value = random.nextInt(SudokuBoard.SIZE) + 1;
+                target.set(cell, value);
+                changes.add(cell);
+            }
+        }
     }
 
+    /**
+     * Updates the duplicate count of the reference board by re-counting only the rows, columns and subgrids
+     * that contain a changed cell.
+     */
     @Override
-    public SudokuBoard mutate(SudokuBoard individual, double mutationRate) {
-        var mutated = new SudokuBoard(individual);
-        for (var row = 0; row < SudokuBoard.SIZE; row++) {
-            for (var column = 0; column < SudokuBoard.SIZE; column++) {
-                if (individual.isStatic(row, column)) {
-                    continue;
-                }
-                if (random.nextDouble() <= mutationRate) {
-                    var value = random.nextInt(SudokuBoard.SIZE) + 1;
-                    mutated.set(row, column, value);
-                }
+    public double fitness(SudokuBoard individual, SudokuBoard reference, double referenceFitness,
+                          GeneChanges changes) {
+        var touchedRows = 0;
+        var touchedColumns = 0;
+        var touchedSubgrids = 0;
+        for (var i = 0; i < changes.size(); i++) {
+            var row = changes.get(i) / SudokuBoard.SIZE;
+            var column = changes.get(i) % SudokuBoard.SIZE;
+            touchedRows |= 1 << row;
+            touchedColumns |= 1 << column;
+            touchedSubgrids |= 1 << subgridOf(row, column);
+        }
+
+        var numberOfConflicts = referenceFitness;
+        for (var unit = 0; unit < SudokuBoard.SIZE; unit++) {
+            if ((touchedRows & 1 << unit) != 0) {
+                numberOfConflicts += individual.getDuplicatesInRow(unit) - reference.getDuplicatesInRow(unit);
+            }
+            if ((touchedColumns & 1 << unit) != 0) {
+                numberOfConflicts += individual.getDuplicatesInColumn(unit) - reference.getDuplicatesInColumn(unit);
+            }
+            if ((touchedSubgrids & 1 << unit) != 0) {
+                numberOfConflicts += individual.getDuplicatesInSubgrid(unit) - reference.getDuplicatesInSubgrid(unit);
             }
         }
 
-        return mutated;
+        return numberOfConflicts;
     }
 
+    /**
+     * Counts, over every row, column and subgrid, the filled cells that repeat a digit already present in that
+     * unit, using the popcount of each unit's digit mask. The count is 0 exactly when the board has no
+     * conflicting cells.
+     */
     @Override
     public double fitness(SudokuBoard individual) {
         var numberOfConflicts = 0;
-        for (var row = 0; row < SudokuBoard.SIZE; row++) {
-            for (var column = 0; column < SudokuBoard.SIZE; column++) {
-                var num = individual.get(row, column);
-
-                if (num == 0) break;
-
-                for (var i = 0; i < SudokuBoard.SIZE; i++) {
-                    if (i != row && individual.getBoard()[i][column] == num) {
-                        numberOfConflicts++;
-                    }
-                    if (i != column && individual.getBoard()[row][i] == num) {
-                        numberOfConflicts++;
-                    }
-                }
-
-                var subGridOriginRow = (row / SudokuBoard.SUBGRID_SIZE) * SudokuBoard.SUBGRID_SIZE;
-                var subGridOriginCol = (column / SudokuBoard.SUBGRID_SIZE) * SudokuBoard.SUBGRID_SIZE;
-
-                for (var i = subGridOriginRow; i < subGridOriginRow + SudokuBoard.SUBGRID_SIZE; i++) {
-                    for (var j = subGridOriginCol; j < subGridOriginCol + SudokuBoard.SUBGRID_SIZE; j++) {
-                        if (!(i == row && j == column) && individual.get(i, j) == num) {
-                            numberOfConflicts++;
-                        }
-                    }
-                }
-            }
+        for (var unit = 0; unit < SudokuBoard.SIZE; unit++) {
+            numberOfConflicts += individual.getDuplicatesInRow(unit)
+                    + individual.getDuplicatesInColumn(unit)
+                    + individual.getDuplicatesInSubgrid(unit);
         }
 
         return numberOfConflicts;
     }
+
+    private static int subgridOf(int row, int column) {
+        return (row / SudokuBoard.SUBGRID_SIZE) * SudokuBoard.SUBGRID_SIZE + column / SudokuBoard.SUBGRID_SIZE;
+    }
 }
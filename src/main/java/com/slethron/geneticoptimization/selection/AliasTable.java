@@ -0,0 +1,92 @@
+package com.slethron.geneticoptimization.selection;
+
+import java.util.Random;
+
+/**
+ * Samples indices in proportion to fixed weights in constant time per draw, using Vose's variant of Walker's
+ * alias method. Building the table takes time linear in the number of weights. Each index owns one column of
+ * equal height, filled partly by its own weight and topped up by the weight of a single alias, so a draw picks a
+ * column uniformly and then either the column's index or its alias.
+ */
+public class AliasTable {
+    private double[] probability;
+    private int[] alias;
+
+    /**
+     * Builds a table over the given weights, which are overwritten in the process. If every weight is 0, every
+     * index is equally likely.
+     *
+     * @param weights The non-negative weight of each index
+     */
+    public AliasTable(double[] weights) {
+        var size = weights.length;
+        if (size == 0) {
+            throw new IllegalArgumentException("An alias table needs at least one weight.");
+        }
+
+        var sum = 0.0;
+        for (var weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and non-negative.");
+            }
+            sum += weight;
+        }
+
+        probability = weights;
+        alias = new int[size];
+        if (sum == 0) {
+            for (var i = 0; i < size; i++) {
+                probability[i] = 1;
+                alias[i] = i;
+            }
+            return;
+        }
+
+        // Scale the weights to an average of 1 and pair every short column with a tall one that tops it up
+        var scaled = probability;
+        var small = new int[size];
+        var large = new int[size];
+        var smallCount = 0;
+        var largeCount = 0;
+        for (var i = 0; i < size; i++) {
+            scaled[i] = scaled[i] * size / sum;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            var under = small[--smallCount];
+            var over = large[--largeCount];
+            alias[under] = over;
+            scaled[over] = scaled[over] + scaled[under] - 1;
+            if (scaled[over] < 1) {
+                small[smallCount++] = over;
+            } else {
+                large[largeCount++] = over;
+            }
+        }
+
+        // Whatever is left over is within rounding of a full column
+        while (largeCount > 0) {
+            var over = large[--largeCount];
+            probability[over] = 1;
+            alias[over] = over;
+        }
+        while (smallCount > 0) {
+            var under = small[--smallCount];
+            probability[under] = 1;
+            alias[under] = under;
+        }
+    }
+
+    public int size() {
+        return alias.length;
+    }
+
+    public int sample(Random random) {
+        var column = random.nextInt(alias.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+}
@@ -0,0 +1,27 @@
+package com.slethron.geneticoptimization.selection;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+
+/**
+ * Draws parents with a probability proportional to how much fitter they are than the least fit individual of the
+ * generation. Measuring from the least fit score rather than from 0 works the same way for minimizing and
+ * maximizing problems and for scores of either sign, at the cost of never drawing the least fit individual unless
+ * the whole generation is equally fit.
+ *
+ * <p>The weights are computed in parallel and put into an {@link AliasTable} once per generation, after which
+ * every draw takes constant time.
+ */
+public class FitnessProportionateSelection implements SelectionStrategy {
+    @Override
+    public ParentSelector prepare(ScoredPopulation<?> population, ExecutionContext execution) {
+        var leastFit = population.getFitness(population.leastFitIndex());
+        var maximizing = population.isMaximizing();
+        var weights = new double[population.size()];
+        execution.forEach(0, weights.length, i -> weights[i] = maximizing
+                ? population.getFitness(i) - leastFit
+                : leastFit - population.getFitness(i));
+
+        return new AliasTable(weights)::sample;
+    }
+}
@@ -0,0 +1,15 @@
+package com.slethron.geneticoptimization.selection;
+
+import java.util.Random;
+
+/**
+ * Draws parents from the population a {@link SelectionStrategy} was prepared for.
+ */
+@FunctionalInterface
+public interface ParentSelector {
+    /**
+     * @param random The random stream of the child being bred
+     * @return The index of a parent in the population
+     */
+    int select(Random random);
+}
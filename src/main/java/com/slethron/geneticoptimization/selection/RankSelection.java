@@ -0,0 +1,80 @@
+package com.slethron.geneticoptimization.selection;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Draws parents with a probability that falls linearly with their rank, so the selection pressure depends only on
+ * the order of the scores and not on their spread. Ranks are found by sorting a copy of the scores, in parallel
+ * when running on a pool, and looking up each individual's score in it; the population itself is never
+ * reordered. Tied individuals share the best of their ranks.
+ *
+ * <p>The weights are put into an {@link AliasTable} once per generation, after which every draw takes constant
+ * time.
+ */
+public class RankSelection implements SelectionStrategy {
+    private double selectionPressure;
+
+    /**
+     * @param selectionPressure The expected number of times the fittest individual is drawn per individual in the
+     *                          population, between 1 for uniform selection and 2, at which the least fit individual
+     *                          is never drawn
+     */
+    public RankSelection(double selectionPressure) {
+        if (selectionPressure < 1 || selectionPressure > 2) {
+            throw new IllegalArgumentException("Selection pressure must be between 1 and 2.");
+        }
+        this.selectionPressure = selectionPressure;
+    }
+
+    public double getSelectionPressure() {
+        return selectionPressure;
+    }
+
+    @Override
+    public ParentSelector prepare(ScoredPopulation<?> population, ExecutionContext execution) {
+        var size = population.size();
+        var maximizing = population.isMaximizing();
+
+        // Keys ascend from the fittest score, whichever way the problem optimizes
+        var keys = new double[size];
+        for (var i = 0; i < size; i++) {
+            keys[i] = maximizing ? -population.getFitness(i) : population.getFitness(i);
+        }
+        var sorted = keys.clone();
+        var pool = execution.getPool();
+        if (pool != null) {
+            pool.invoke(ForkJoinTask.adapt(() -> Arrays.parallelSort(sorted)));
+        } else {
+            Arrays.sort(sorted);
+        }
+
+        var weights = new double[size];
+        var step = size > 1 ? 2 * (selectionPressure - 1) / (size - 1) : 0;
+        execution.forEach(0, size,
+                i -> weights[i] = Math.max(0, selectionPressure - step * rankOf(sorted, keys[i])));
+
+        return new AliasTable(weights)::sample;
+    }
+
+    /**
+     * Returns the position of the first occurrence of a key in the sorted keys.
+     */
+    private static int rankOf(double[] sorted, double key) {
+        var low = 0;
+        var high = sorted.length - 1;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (Double.compare(sorted[middle], key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+}
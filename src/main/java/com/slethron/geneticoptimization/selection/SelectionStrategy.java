@@ -0,0 +1,27 @@
+package com.slethron.geneticoptimization.selection;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+
+/**
+ * Decides how parents are drawn from a scored population. A strategy is asked once per generation for a
+ * {@link ParentSelector}, which may precompute whatever it needs from the stored scores, and the selector is then
+ * asked for two parents of every child.
+ */
+public interface SelectionStrategy {
+    /**
+     * Prepares to draw parents from a population on the common pool.
+     */
+    default ParentSelector prepare(ScoredPopulation<?> population) {
+        return prepare(population, ExecutionContext.commonPool());
+    }
+
+    /**
+     * Prepares to draw parents from a population. The population is not changed while the selector is in use.
+     *
+     * @param population The population parents are drawn from
+     * @param execution  The threads any preparation in parallel runs on
+     * @return A selector that may be called from many threads at once
+     */
+    ParentSelector prepare(ScoredPopulation<?> population, ExecutionContext execution);
+}
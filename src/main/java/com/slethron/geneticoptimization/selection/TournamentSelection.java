@@ -0,0 +1,46 @@
+package com.slethron.geneticoptimization.selection;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+
+/**
+ * Draws each parent as the fittest of a few individuals sampled uniformly with replacement. Every draw reads only
+ * the stored scores of its sample, so nothing has to be computed before breeding starts and the population is
+ * never ordered. Larger tournaments raise the selection pressure.
+ */
+public class TournamentSelection implements SelectionStrategy {
+    private int tournamentSize;
+
+    /**
+     * @param tournamentSize The number of individuals each parent is drawn from
+     */
+    public TournamentSelection(int tournamentSize) {
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("Tournament size must be at least one.");
+        }
+        this.tournamentSize = tournamentSize;
+    }
+
+    public int getTournamentSize() {
+        return tournamentSize;
+    }
+
+    @Override
+    public ParentSelector prepare(ScoredPopulation<?> population, ExecutionContext execution) {
+        var size = population.size();
+        return random -> {
+            var winner = random.nextInt(size);
+            var winnerFitness = population.getFitness(winner);
+            for (var i = 1; i < tournamentSize; i++) {
+                var contender = random.nextInt(size);
+                var contenderFitness = population.getFitness(contender);
+                if (population.compareFitness(contenderFitness, winnerFitness) < 0) {
+                    winner = contender;
+                    winnerFitness = contenderFitness;
+                }
+            }
+
+            return winner;
+        };
+    }
+}
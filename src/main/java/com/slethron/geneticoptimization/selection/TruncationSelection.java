@@ -0,0 +1,40 @@
+package com.slethron.geneticoptimization.selection;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+
+/**
+ * Draws parents uniformly from the fittest fraction of the population. The fittest slice is found by a partial
+ * selection over the stored scores, which is linear in the population size but has to finish before any child is
+ * bred.
+ */
+public class TruncationSelection implements SelectionStrategy {
+    private double fittestSampleRatio;
+
+    /**
+     * @param fittestSampleRatio The fraction of the fittest individuals parents are drawn from
+     */
+    public TruncationSelection(double fittestSampleRatio) {
+        if (fittestSampleRatio < 0 || fittestSampleRatio > 1) {
+            throw new IllegalArgumentException("Sample ratio must be between 0 and 1.");
+        }
+        this.fittestSampleRatio = fittestSampleRatio;
+    }
+
+    public double getFittestSampleRatio() {
+        return fittestSampleRatio;
+    }
+
+    /**
+     * Returns the number of individuals parents are drawn from in a population of the given size.
+     */
+    public static int sampleBound(int size, double fittestSampleRatio) {
+        return Math.max(1, (int) Math.rint(size * fittestSampleRatio));
+    }
+
+    @Override
+    public ParentSelector prepare(ScoredPopulation<?> population, ExecutionContext execution) {
+        var parents = population.selectFittest(sampleBound(population.size(), fittestSampleRatio), execution);
+        return random -> parents[random.nextInt(parents.length)];
+    }
+}
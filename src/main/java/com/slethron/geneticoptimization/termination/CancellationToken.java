@@ -0,0 +1,17 @@
+package com.slethron.geneticoptimization.termination;
+
+/**
+ * Lets another thread end a run. A run watching the token through {@link Termination#cancelled} stops at the
+ * end of the generation during which the token was cancelled.
+ */
+public class CancellationToken {
+    private volatile boolean cancelled;
+    
+    public void cancel() {
+        cancelled = true;
+    }
+    
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,102 @@
+package com.slethron.geneticoptimization.termination;
+
+/**
+ * The progress of a single run as seen by its {@link TerminationCriterion}. The engine running it updates the
+ * progress after every generation, from one thread at a time.
+ */
+public class EvolutionProgress {
+    private boolean maximizing;
+    private long startNanos;
+    private long generation;
+    private long evaluations;
+    private boolean hasBestFitness;
+    private double bestFitness;
+    private long lastImprovement;
+    
+    public EvolutionProgress(boolean maximizing) {
+        this.maximizing = maximizing;
+        startNanos = System.nanoTime();
+    }
+    
+    /**
+     * Records the state of the run after a generation.
+     *
+     * @param generation  The number of generations bred so far in this run
+     * @param evaluations The number of fitness evaluations performed so far in this run
+     * @param fitness     The score of the fittest individual of the current population
+     * @return Whether the fittest score improved on every earlier one
+     */
+    public boolean update(long generation, long evaluations, double fitness) {
+        this.generation = generation;
+        this.evaluations = evaluations;
+        if (hasBestFitness && !isFitter(fitness, bestFitness)) {
+            return false;
+        }
+        
+        hasBestFitness = true;
+        bestFitness = fitness;
+        lastImprovement = generation;
+        return true;
+    }
+    
+    /**
+     * Takes over the best score of an earlier part of the same run, such as the run a checkpoint was taken
+     * from, so that the run's stagnation is counted from that score's last improvement.
+     *
+     * @param bestFitness     The best score seen in the earlier part of the run
+     * @param lastImprovement The generation in which that score was first reached
+     */
+    public void restore(double bestFitness, long lastImprovement) {
+        hasBestFitness = true;
+        this.bestFitness = bestFitness;
+        this.lastImprovement = lastImprovement;
+    }
+    
+    public boolean isMaximizing() {
+        return maximizing;
+    }
+    
+    public long getGeneration() {
+        return generation;
+    }
+    
+    public long getEvaluations() {
+        return evaluations;
+    }
+    
+    /**
+     * Returns the best score seen so far in this run.
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+    
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+    
+    /**
+     * Returns the generation in which the best score was first reached.
+     */
+    public long getLastImprovement() {
+        return lastImprovement;
+    }
+    
+    /**
+     * Returns the number of generations since the best score last improved.
+     */
+    public long getGenerationsWithoutImprovement() {
+        return generation - lastImprovement;
+    }
+    
+    /**
+     * Returns whether the best score so far is at least as fit as the target.
+     */
+    public boolean hasReached(double targetFitness) {
+        return hasBestFitness && !isFitter(targetFitness, bestFitness);
+    }
+    
+    private boolean isFitter(double a, double b) {
+        return maximizing ? a > b : a < b;
+    }
+}
@@ -0,0 +1,61 @@
+package com.slethron.geneticoptimization.termination;
+
+import java.time.Duration;
+
+/**
+ * Creates the common termination criteria.
+ */
+public class Termination {
+    private Termination() { }
+    
+    /**
+     * Ends a run once an individual at least as fit as the target has been found.
+     */
+    public static TerminationCriterion targetFitness(double targetFitness) {
+        return progress -> progress.hasReached(targetFitness);
+    }
+    
+    /**
+     * Ends a run after the given number of generations.
+     */
+    public static TerminationCriterion maxGenerations(long generations) {
+        return progress -> progress.getGeneration() >= generations;
+    }
+    
+    /**
+     * Ends a run once it has performed at least the given number of fitness evaluations, counting the initial
+     * population.
+     */
+    public static TerminationCriterion maxEvaluations(long evaluations) {
+        return progress -> progress.getEvaluations() >= evaluations;
+    }
+    
+    /**
+     * Ends a run at the end of the first generation that finishes after the given time since the run started.
+     */
+    public static TerminationCriterion deadline(Duration duration) {
+        var nanos = duration.toNanos();
+        return progress -> progress.getElapsedNanos() >= nanos;
+    }
+    
+    /**
+     * Ends a run once the best score has not improved for the given number of generations.
+     */
+    public static TerminationCriterion stagnation(long generations) {
+        return progress -> progress.getGenerationsWithoutImprovement() >= generations;
+    }
+    
+    /**
+     * Ends a run once the thread checking the criterion has been interrupted. The interrupt flag is left set.
+     */
+    public static TerminationCriterion interrupted() {
+        return progress -> Thread.currentThread().isInterrupted();
+    }
+    
+    /**
+     * Ends a run once the token has been cancelled.
+     */
+    public static TerminationCriterion cancelled(CancellationToken token) {
+        return progress -> token.isCancelled();
+    }
+}
@@ -0,0 +1,25 @@
+package com.slethron.geneticoptimization.termination;
+
+/**
+ * Decides from the progress of a run whether it should end. Engines check their criterion once per generation,
+ * so a criterion should do no more than compare a few numbers. Criteria are combined with {@link #or} and
+ * {@link #and}, and the common ones are created through {@link Termination}.
+ */
+@FunctionalInterface
+public interface TerminationCriterion {
+    boolean isMet(EvolutionProgress progress);
+    
+    /**
+     * Returns a criterion that is met as soon as either this or the other criterion is.
+     */
+    default TerminationCriterion or(TerminationCriterion other) {
+        return progress -> isMet(progress) || other.isMet(progress);
+    }
+    
+    /**
+     * Returns a criterion that is met only while both this and the other criterion are.
+     */
+    default TerminationCriterion and(TerminationCriterion other) {
+        return progress -> isMet(progress) && other.isMet(progress);
+    }
+}
@@ -0,0 +1,262 @@
+package com.slethron.geneticoptimization.util;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+/**
+ * Decides which threads the work of an optimization runs on and how it is split up. Work over a range of
+ * population slots is cut into chunks of a fixed grain size, each of which is run by one thread from start to
+ * finish, and the caller waits until every chunk is done.
+ *
+ * <p>By default work runs on the JVM-wide common pool, which every other parallel stream in the process shares.
+ * A dedicated {@link ForkJoinPool} with a set parallelism isolates an optimization from everything else, and any
+ * other {@link Executor} can be used as well. With a plain executor the calling thread works through chunks
+ * alongside the executor's threads, so a saturated executor slows an optimization down but never deadlocks it.
+ *
+ * <p>Unless a grain size is set, a range is cut into about four chunks per thread.
+ */
+public class ExecutionContext implements AutoCloseable {
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ForkJoinPool pool;
+    private Executor executor;
+    private int parallelism;
+    private boolean owned;
+    private int grainSize;
+
+    private ExecutionContext(ForkJoinPool pool, Executor executor, int parallelism, boolean owned) {
+        this.pool = pool;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.owned = owned;
+    }
+
+    /**
+     * Returns a context running on the common pool.
+     */
+    public static ExecutionContext commonPool() {
+        return new ExecutionContext(ForkJoinPool.commonPool(), null, ForkJoinPool.getCommonPoolParallelism(), false);
+    }
+
+    /**
+     * Returns a context running everything on the calling thread.
+     */
+    public static ExecutionContext sequential() {
+        return new ExecutionContext(null, null, 1, false);
+    }
+
+    /**
+     * Returns a context running on a pool of its own, which is shut down when the context is closed.
+     *
+     * @param parallelism The number of threads of the pool
+     */
+    public static ExecutionContext dedicated(int parallelism) {
+        return new ExecutionContext(new ForkJoinPool(parallelism), null, parallelism, true);
+    }
+
+    /**
+     * Returns a context running on a pool owned by the caller.
+     */
+    public static ExecutionContext of(ForkJoinPool pool) {
+        return new ExecutionContext(pool, null, pool.getParallelism(), false);
+    }
+
+    /**
+     * Returns a context running on an executor owned by the caller.
+     *
+     * @param executor    The executor chunks are handed to
+     * @param parallelism The number of chunks the executor is expected to run at once
+     */
+    public static ExecutionContext of(Executor executor, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least one.");
+        }
+        return new ExecutionContext(null, executor, parallelism, false);
+    }
+
+    /**
+     * @param grainSize The number of slots per chunk, or 0 to derive it from the parallelism
+     * @return This context
+     */
+    public ExecutionContext withGrainSize(int grainSize) {
+        if (grainSize < 0) {
+            throw new IllegalArgumentException("Grain size cannot be negative.");
+        }
+        this.grainSize = grainSize;
+        return this;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the pool this context runs on, or null if it runs on a plain executor or on the calling thread.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public boolean isSequential() {
+        return pool == null && executor == null;
+    }
+
+    /**
+     * Returns the number of slots per chunk when cutting up a range of the given size.
+     */
+    public int grainSize(int size) {
+        if (grainSize > 0) {
+            return grainSize;
+        }
+
+        return Math.max(1, (size + parallelism * CHUNKS_PER_THREAD - 1) / (parallelism * CHUNKS_PER_THREAD));
+    }
+
+    /**
+     * Runs an action for every slot of a range and waits for all of them.
+     */
+    public void forEach(int from, int to, IntConsumer action) {
+        forEachChunk(from, to, grainSize(to - from), (chunkFrom, chunkTo) -> {
+            for (var i = chunkFrom; i < chunkTo; i++) {
+                action.accept(i);
+            }
+        });
+    }
+
+    /**
+     * Cuts a range into chunks that start at every multiple of the grain size past its start, runs an action for
+     * each chunk and waits for all of them.
+     */
+    public void forEachChunk(int from, int to, int grainSize, RangeAction action) {
+        if (grainSize < 1) {
+            throw new IllegalArgumentException("Grain size must be at least one.");
+        }
+        var chunks = (int) (((long) to - from + grainSize - 1) / grainSize);
+        if (chunks <= 0) {
+            return;
+        }
+
+        if (isSequential() || chunks == 1) {
+            for (var chunk = 0; chunk < chunks; chunk++) {
+                runChunk(from, to, grainSize, chunk, action);
+            }
+        } else if (pool != null) {
+            var task = new ChunkTask(from, to, grainSize, 0, chunks, action);
+            if (ForkJoinTask.getPool() == pool) {
+                task.invoke();
+            } else {
+                pool.invoke(task);
+            }
+        } else {
+            runOnExecutor(from, to, grainSize, chunks, action);
+        }
+    }
+
+    /**
+     * Shuts down the pool if this context created it.
+     */
+    @Override
+    public void close() {
+        if (owned) {
+            pool.shutdown();
+        }
+    }
+
+    private void runOnExecutor(int from, int to, int grainSize, int chunks, RangeAction action) {
+        var nextChunk = new AtomicInteger();
+        var finished = new CountDownLatch(chunks);
+        var failure = new AtomicReference<Throwable>();
+        Runnable worker = () -> {
+            for (var chunk = nextChunk.getAndIncrement(); chunk < chunks; chunk = nextChunk.getAndIncrement()) {
+                try {
+                    runChunk(from, to, grainSize, chunk, action);
+                } catch (RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    finished.countDown();
+                }
+            }
+        };
+
+        var helpers = new ArrayList<FutureTask<Void>>();
+        for (var i = 1; i < Math.min(parallelism, chunks); i++) {
+            var helper = new FutureTask<Void>(worker, null);
+            executor.execute(helper);
+            helpers.add(helper);
+        }
+        worker.run();
+
+        // Helpers that have not started yet have nothing left to do, so they are called off, but a chunk a helper
+        // already claimed may still be running and is waited for
+        for (var helper : helpers) {
+            helper.cancel(false);
+        }
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for chunks.", e);
+        }
+
+        var cause = failure.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+    }
+
+    private static void runChunk(int from, int to, int grainSize, int chunk, RangeAction action) {
+        var chunkFrom = from + chunk * grainSize;
+        action.run(chunkFrom, Math.min(to, chunkFrom + grainSize));
+    }
+
+    /**
+     * An action over a chunk of slots, from the first slot up to but not including the last.
+     */
+    @FunctionalInterface
+    public interface RangeAction {
+        void run(int from, int to);
+    }
+
+    private static class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private int from;
+        private int to;
+        private int grainSize;
+        private int firstChunk;
+        private int lastChunk;
+        private RangeAction action;
+
+        private ChunkTask(int from, int to, int grainSize, int firstChunk, int lastChunk, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.grainSize = grainSize;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastChunk - firstChunk == 1) {
+                runChunk(from, to, grainSize, firstChunk, action);
+                return;
+            }
+
+            var middle = (firstChunk + lastChunk) >>> 1;
+            invokeAll(new ChunkTask(from, to, grainSize, firstChunk, middle, action),
+                    new ChunkTask(from, to, grainSize, middle, lastChunk, action));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.slethron.geneticoptimization.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * Fitness loops that work on eight characters at a time inside a single long, for runtimes without a vector API.
+ * Each lane of a long holds one 7-bit ASCII character, and the top bit of every lane is spare, which lets a
+ * subtraction run across all eight lanes without borrowing from its neighbour. Strings with a character that does
+ * not fit in a lane are scored one character at a time instead.
+ */
+public class FitnessKernels {
+    /**
+     * The number of characters summed into one long at a time. Every 16-bit partial sum gains at most 254 per
+     * step, so this many characters never overflow one.
+     */
+    private static final int CHUNK_SIZE = 1024;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long EVEN_BYTES = 0x00FF00FF00FF00FFL;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+    private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+    private FitnessKernels() { }
+
+    /**
+     * Returns whether every character of a string is below 128, and so fits in one lane.
+     */
+    public static boolean isAscii(CharSequence chars) {
+        for (var i = 0; i < chars.length(); i++) {
+            if (chars.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the sum of the absolute differences between the characters of a string and an ASCII target of the
+     * same length. The string may hold any characters, but only ASCII strings are scored eight at a time.
+     *
+     * @param individual The string to score
+     * @param target     The target, one byte per character, all below 128
+     */
+    public static int sumOfAbsoluteDifferences(String individual, byte[] target) {
+        return sumOfAbsoluteDifferences(individual, target, CHUNK.get());
+    }
+
+    /**
+     * Scores a batch of strings against one target, sharing one scratch buffer across the whole batch.
+     *
+     * @param scores Receives the score of every individual, in the order of the batch
+     */
+    public static void sumsOfAbsoluteDifferences(List<String> individuals, byte[] target, double[] scores) {
+        var chunk = CHUNK.get();
+        for (var i = 0; i < individuals.size(); i++) {
+            scores[i] = sumOfAbsoluteDifferences(individuals.get(i), target, chunk);
+        }
+    }
+
+    private static int sumOfAbsoluteDifferences(String individual, byte[] target, byte[] chunk) {
+        var length = individual.length();
+        if (length != target.length) {
+            throw new IllegalArgumentException("Individual has length " + length + " but the target has length "
+                    + target.length + ".");
+        }
+
+        var sum = 0;
+        for (var from = 0; from < length; from += CHUNK_SIZE) {
+            var to = Math.min(length, from + CHUNK_SIZE);
+            var combined = 0;
+            for (var i = from; i < to; i++) {
+                var c = individual.charAt(i);
+                combined |= c;
+                chunk[i - from] = (byte) c;
+            }
+            // A character of 128 or more would not fit in its lane
+            if ((combined & ~0x7F) != 0) {
+                return scalarSumOfAbsoluteDifferences(individual, target);
+            }
+
+            var sums = 0L;
+            var i = 0;
+            for (; i + Long.BYTES <= to - from; i += Long.BYTES) {
+                var a = (long) LONGS.get(chunk, i);
+                var b = (long) LONGS.get(target, from + i);
+
+                // Lanes of a - b and b - a, each offset by 128 so no lane borrows from the next one
+                var aMinusB = (a | HIGH_BITS) - b;
+                var bMinusA = (b | HIGH_BITS) - a;
+                // Every lane where a >= b keeps its top bit, which becomes a full lane mask
+                var aNotBelowB = ((aMinusB & HIGH_BITS) >>> 7) * 0xFF;
+                var difference = (aMinusB ^ HIGH_BITS) & aNotBelowB | (bMinusA ^ HIGH_BITS) & ~aNotBelowB;
+
+                sums += (difference & EVEN_BYTES) + (difference >>> 8 & EVEN_BYTES);
+            }
+            for (var lane = 0; lane < 4; lane++) {
+                sum += (int) (sums >>> (lane * 16) & 0xFFFF);
+            }
+            for (; i < to - from; i++) {
+                sum += Math.abs(chunk[i] - target[from + i]);
+            }
+        }
+
+        return sum;
+    }
+
+    private static int scalarSumOfAbsoluteDifferences(String individual, byte[] target) {
+        var sum = 0;
+        for (var i = 0; i < individual.length(); i++) {
+            sum += Math.abs(target[i] - individual.charAt(i));
+        }
+
+        return sum;
+    }
+}
@@ -7,13 +7,14 @@ import com.slethron.geneticoptimization.domain.SudokuBoard;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+/**
+ * Generates random domain objects. All randomness is drawn from the stream {@link RandomProvider} binds to the
+ * calling thread, so these methods are safe to call from parallel workers.
+ */
 public class RandomGeneratorUtil {
-    private static final SplittableRandom RANDOM = new SplittableRandom();
-
     private RandomGeneratorUtil() { }
     
     private static final int UTF_16_UPPER_BOUND = 127;
@@ -27,8 +28,9 @@ public class RandomGeneratorUtil {
      * @return The generated random string
      */
     public static String generateRandomString(int length) {
+        var random = RandomProvider.current();
         return IntStream.range(0, length)
-                .mapToObj(i -> RANDOM.nextInt(UTF_16_UPPER_BOUND - UTF_16_LOWER_BOUND) + UTF_16_LOWER_BOUND)
+                .mapToObj(i -> random.nextInt(UTF_16_UPPER_BOUND - UTF_16_LOWER_BOUND) + UTF_16_LOWER_BOUND)
                 .map(Character::toChars)
                 .map(String::valueOf)
                 .collect(Collectors.joining());
@@ -41,13 +43,14 @@ public class RandomGeneratorUtil {
      * @return The generated random BitString
      */
     public static BitString generateRandomBitString(int length) {
-        var bits = new boolean[length];
+        var random = RandomProvider.current();
+        var bitString = new BitString(length);
         
-        for (var i = 0; i < length; i++) {
-            bits[i] = RANDOM.nextBoolean();
+        for (var i = 0; i < bitString.wordCount(); i++) {
+            bitString.setWord(i, random.nextLong());
         }
         
-        return new BitString(bits);
+        return bitString;
     }
     
     /**
@@ -58,9 +61,10 @@ public class RandomGeneratorUtil {
      * @return The generated random N-Queens board object
      */
     public static NQueensBoard generateRandomNQueensBoard(int n) {
+        var random = RandomProvider.current();
         var board = new int[n];
         for (var i = 0; i < n; i++) {
-            board[i] = RANDOM.nextInt(n);
+            board[i] = random.nextInt(n);
         }
         
         return new NQueensBoard(board);
@@ -80,16 +84,33 @@ public class RandomGeneratorUtil {
      * @return The generated random Knapsack object
      */
     public static Knapsack generateRandomKnapsack(int maxWeight, List<Knapsack.KnapsackItem> itemsToPut) {
-        var items = new ArrayList<>(itemsToPut);
-        var knapsack = new Knapsack(maxWeight);
-        for (var i = items.size(); i >= 1; i--) {
-            var itemToPut = items.get(RANDOM.nextInt(items.size()));
-            if (knapsack.put(itemToPut)) {
-                items.remove(itemToPut);
-            }
+        return generateRandomKnapsack(maxWeight, new Knapsack.ItemCatalog(itemsToPut));
+    }
+    
+    /**
+     * Generates a knapsack object by offering every item of a catalog in random order and putting each one that
+     * still fits.
+     *
+     * @param maxWeight The maxWeight of the knapsack object being generated
+     * @param catalog   The items to randomly put in the bag
+     * @return The generated random Knapsack object
+     */
+    public static Knapsack generateRandomKnapsack(int maxWeight, Knapsack.ItemCatalog catalog) {
+        var random = RandomProvider.current();
+        var order = new int[catalog.size()];
+        for (var i = 0; i < order.length; i++) {
+            order[i] = i;
         }
         
-        if (items.isEmpty()) {
+        var knapsack = new Knapsack(maxWeight, catalog);
+        for (var i = order.length - 1; i >= 0; i--) {
+            var j = random.nextInt(i + 1);
+            var index = order[j];
+            order[j] = order[i];
+            knapsack.put(index);
+        }
+        
+        if (knapsack.getItemCount() == catalog.size()) {
             throw new IllegalArgumentException("Total value of items to put in knapsack must be greater than the max"
                     + " weight of the knapsack.");
         }
@@ -113,25 +134,34 @@ public class RandomGeneratorUtil {
                     + "number of total cells.");
         }
     
-        var board = SudokuUtil.generateRandomSolvedSudokuBoard();
-    
-        var numberOfEmptyCells = 0;
+        var random = RandomProvider.current();
         var totalNumberOfCells = SudokuBoard.SIZE * SudokuBoard.SIZE;
-        while (numberOfEmptyCells < totalNumberOfCells - numberOfFilledCells) {
-            var row = RANDOM.nextInt(SudokuBoard.SIZE);
-            var column = RANDOM.nextInt(SudokuBoard.SIZE);
-            var removed = board.get(row, column);
-        
-            if (removed == SudokuBoard.EMPTY) {
-                continue;
+        var cells = new int[totalNumberOfCells];
+        SudokuBoard board;
+        while (true) {
+            board = SudokuUtil.generateRandomSolvedSudokuBoard();
+            for (var i = 0; i < totalNumberOfCells; i++) {
+                cells[i] = i;
             }
-        
-            board.remove(row, column);
-            numberOfEmptyCells++;
-        
-            if (!SudokuUtil.isSolvable(board)) {
-                board.set(row, column, removed);
-                numberOfEmptyCells--;
+            
+            // Try each cell once in random order; if the board runs out of removable cells, start over
+            var numberOfFilled = totalNumberOfCells;
+            for (var i = 0; i < totalNumberOfCells && numberOfFilled > numberOfFilledCells; i++) {
+                var j = i + random.nextInt(totalNumberOfCells - i);
+                var cell = cells[j];
+                cells[j] = cells[i];
+                cells[i] = cell;
+                
+                var removed = board.get(cell);
+                board.remove(cell);
+                if (SudokuUtil.isSolvable(board)) {
+                    numberOfFilled--;
+                } else {
+                    board.set(cell, removed);
+                }
+            }
+            if (numberOfFilled == numberOfFilledCells) {
+                break;
             }
         }
     
@@ -0,0 +1,75 @@
+package com.slethron.geneticoptimization.util;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Hands out random number generators without any state shared between threads. Every worker thread owns one
+ * generator, which is rebound to an independent stream for each population slot it works on. The stream of a
+ * slot is derived from the master seed, the stream number (usually the generation) and the slot index alone,
+ * so a run started from the same master seed produces the same results no matter how its work is scheduled.
+ *
+ * <p>Operators read the stream bound to the calling thread through {@link #current()}.
+ */
+public class RandomProvider {
+    /**
+     * The stream number used when generating an initial population, which precedes generation 0.
+     */
+    public static final long INITIAL_POPULATION_STREAM = -1;
+    
+    private static final SplittableRandom SEED_SOURCE = new SplittableRandom();
+    private static final ThreadLocal<SplitMixRandom> CURRENT = ThreadLocal.withInitial(() -> {
+        synchronized (SEED_SOURCE) {
+            return new SplitMixRandom(SEED_SOURCE.nextLong());
+        }
+    });
+    
+    private long seed;
+    
+    public RandomProvider() {
+        synchronized (SEED_SOURCE) {
+            seed = SEED_SOURCE.nextLong();
+        }
+    }
+    
+    public RandomProvider(long seed) {
+        this.seed = seed;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    /**
+     * Derives a provider with its own master seed, for runs that are split into independent parts such as the
+     * islands of an island model.
+     *
+     * @param key The index of the part
+     * @return A provider whose streams are independent of this provider's and of those derived for other keys
+     */
+    public RandomProvider derive(long key) {
+        return new RandomProvider(SplitMixRandom.mix64(seed + SplitMixRandom.mix64(~key)));
+    }
+    
+    /**
+     * Rebinds the calling thread's generator to the stream of a population slot.
+     *
+     * @param stream The stream number, usually the generation being bred
+     * @param slot   The index of the population slot being filled
+     * @return The calling thread's generator, positioned at the start of the slot's stream
+     */
+    public Random bind(long stream, int slot) {
+        var random = CURRENT.get();
+        random.reseed(SplitMixRandom.mix64(SplitMixRandom.mix64(seed ^ SplitMixRandom.mix64(stream)) + slot));
+        
+        return random;
+    }
+    
+    /**
+     * Returns the generator owned by the calling thread, positioned wherever the last {@link #bind(long, int)}
+     * on this thread left it. The returned generator must not be handed to other threads.
+     */
+    public static Random current() {
+        return CURRENT.get();
+    }
+}
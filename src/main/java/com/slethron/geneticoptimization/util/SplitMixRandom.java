@@ -0,0 +1,54 @@
+package com.slethron.geneticoptimization.util;
+
+import java.util.Random;
+
+/**
+ * A {@link Random} backed by the SplitMix64 generator. Its state is a plain long rather than the atomic seed of
+ * {@link Random}, so it must never be shared between threads, and it can be reseeded in place so a worker can
+ * switch streams without allocating.
+ */
+class SplitMixRandom extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    
+    private long state;
+    
+    SplitMixRandom(long seed) {
+        super(seed);
+    }
+    
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+    
+    void reseed(long seed) {
+        state = seed;
+    }
+    
+    @Override
+    public void setSeed(long seed) {
+        state = seed;
+    }
+    
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+    
+    @Override
+    public long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+    
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+    
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+}
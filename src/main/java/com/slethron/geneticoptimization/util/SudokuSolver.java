@@ -0,0 +1,184 @@
+package com.slethron.geneticoptimization.util;
+
+import com.slethron.geneticoptimization.domain.SudokuBoard;
+
+import java.util.Random;
+
+/**
+ * A backtracking Sudoku solver over candidate bitmasks. Each row, column and subgrid keeps a 9-bit mask of the
+ * digits it already holds, so the candidates of a cell are the complement of three masks. Before every branch
+ * the solver fills all cells that have a single candidate, and it branches on the empty cell with the fewest
+ * candidates. Assignments are recorded on a trail and undone when backtracking, so a search allocates nothing.
+ */
+public class SudokuSolver {
+    private static final int ALL_DIGITS = 0b11_1111_1110;
+    
+    private int[] cells;
+    private int[] rowMasks;
+    private int[] columnMasks;
+    private int[] subgridMasks;
+    private int[] trail;
+    private int trailSize;
+    private int[] solution;
+    private Random random;
+    private boolean consistent;
+    
+    private SudokuSolver(SudokuBoard board, Random random) {
+        cells = new int[SudokuBoard.CELL_COUNT];
+        rowMasks = new int[SudokuBoard.SIZE];
+        columnMasks = new int[SudokuBoard.SIZE];
+        subgridMasks = new int[SudokuBoard.SIZE];
+        trail = new int[SudokuBoard.CELL_COUNT];
+        this.random = random;
+        consistent = true;
+        
+        for (var cell = 0; cell < SudokuBoard.CELL_COUNT; cell++) {
+            var digit = board.get(cell);
+            if (digit == SudokuBoard.EMPTY) {
+                continue;
+            }
+            if ((candidates(cell) & 1 << digit) == 0) {
+                consistent = false;
+            }
+            place(cell, digit);
+        }
+        trailSize = 0;
+    }
+    
+    /**
+     * Counts the solutions of a board, stopping as soon as the limit is reached. A limit of 2 is enough to tell
+     * whether a board has exactly one solution.
+     *
+     * @param board The board to solve, which is left unchanged
+     * @param limit The number of solutions after which to stop counting
+     * @return The number of solutions, at most the limit
+     */
+    public static int countSolutions(SudokuBoard board, int limit) {
+        var solver = new SudokuSolver(board, null);
+        
+        return solver.consistent ? solver.search(limit) : 0;
+    }
+    
+    /**
+     * Fills the empty cells of a board with a solution. Candidate digits are tried in random order, so solving an
+     * empty board produces a random solved board.
+     *
+     * @param board  The board to fill
+     * @param random The source of the digit order
+     * @return Whether the board had a solution; the board is only changed if it did
+     */
+    public static boolean solve(SudokuBoard board, Random random) {
+        var solver = new SudokuSolver(board, random);
+        if (!solver.consistent || solver.search(1) == 0) {
+            return false;
+        }
+        
+        for (var cell = 0; cell < SudokuBoard.CELL_COUNT; cell++) {
+            if (board.get(cell) == SudokuBoard.EMPTY) {
+                board.set(cell, solver.solution[cell]);
+            }
+        }
+        
+        return true;
+    }
+    
+    private int search(int limit) {
+        var mark = trailSize;
+        var branchCell = -1;
+        var progress = true;
+        while (progress) {
+            progress = false;
+            branchCell = -1;
+            var fewestCandidates = Integer.MAX_VALUE;
+            for (var cell = 0; cell < SudokuBoard.CELL_COUNT; cell++) {
+                if (cells[cell] != SudokuBoard.EMPTY) {
+                    continue;
+                }
+                
+                var candidates = candidates(cell);
+                var count = Integer.bitCount(candidates);
+                if (count == 0) {
+                    undo(mark);
+                    return 0;
+                }
+                if (count == 1) {
+                    place(cell, Integer.numberOfTrailingZeros(candidates));
+                    progress = true;
+                } else if (count < fewestCandidates) {
+                    fewestCandidates = count;
+                    branchCell = cell;
+                }
+            }
+        }
+        
+        if (branchCell == -1) {
+            if (solution == null) {
+                solution = cells.clone();
+            }
+            undo(mark);
+            return 1;
+        }
+        
+        var solutions = 0;
+        var remaining = candidates(branchCell);
+        while (remaining != 0 && solutions < limit) {
+            var digit = nextDigit(remaining);
+            remaining &= ~(1 << digit);
+            
+            var branchMark = trailSize;
+            place(branchCell, digit);
+            solutions += search(limit - solutions);
+            undo(branchMark);
+        }
+        
+        undo(mark);
+        return solutions;
+    }
+    
+    private int nextDigit(int candidates) {
+        if (random == null) {
+            return Integer.numberOfTrailingZeros(candidates);
+        }
+        
+        var skip = random.nextInt(Integer.bitCount(candidates));
+        for (var i = 0; i < skip; i++) {
+            candidates &= candidates - 1;
+        }
+        
+        return Integer.numberOfTrailingZeros(candidates);
+    }
+    
+    private int candidates(int cell) {
+        var row = cell / SudokuBoard.SIZE;
+        var column = cell % SudokuBoard.SIZE;
+        
+        return ALL_DIGITS & ~(rowMasks[row] | columnMasks[column] | subgridMasks[subgridOf(row, column)]);
+    }
+    
+    private void place(int cell, int digit) {
+        var row = cell / SudokuBoard.SIZE;
+        var column = cell % SudokuBoard.SIZE;
+        cells[cell] = digit;
+        rowMasks[row] |= 1 << digit;
+        columnMasks[column] |= 1 << digit;
+        subgridMasks[subgridOf(row, column)] |= 1 << digit;
+        trail[trailSize++] = cell;
+    }
+    
+    private void undo(int mark) {
+        while (trailSize > mark) {
+            var cell = trail[--trailSize];
+            var row = cell / SudokuBoard.SIZE;
+            var column = cell % SudokuBoard.SIZE;
+            var bit = 1 << cells[cell];
+            rowMasks[row] &= ~bit;
+            columnMasks[column] &= ~bit;
+            subgridMasks[subgridOf(row, column)] &= ~bit;
+            cells[cell] = SudokuBoard.EMPTY;
+        }
+    }
+    
+    private static int subgridOf(int row, int column) {
+        return (row / SudokuBoard.SUBGRID_SIZE) * SudokuBoard.SUBGRID_SIZE + column / SudokuBoard.SUBGRID_SIZE;
+    }
+}
@@ -0,0 +1,84 @@
+package com.slethron.geneticoptimization.anytime.test;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.anytime.Improvement;
+import com.slethron.geneticoptimization.anytime.ImprovementPublisher;
+import com.slethron.geneticoptimization.domain.NQueensBoard;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.termination.Termination;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImprovementPublisherTest {
+    @Test
+    void listenerReceivesStrictlyImprovingCopies() {
+        var nQueensProblem = new NQueensProblem(16);
+        var random = new RandomProvider(9);
+        var improvements = new ArrayList<Improvement<NQueensBoard>>();
+        
+        var last = new GenerationalEngine<>(nQueensProblem, random)
+                .withImprovementListener(improvements::add)
+                .run(nQueensProblem.generateInitialPopulation(300, random), .05, .25,
+                        Termination.targetFitness(0).or(Termination.maxGenerations(2000)));
+        
+        assertFalse(improvements.isEmpty());
+        assertEquals(0, improvements.get(0).getGeneration());
+        for (var i = 1; i < improvements.size(); i++) {
+            assertTrue(improvements.get(i).getFitness() < improvements.get(i - 1).getFitness());
+            assertTrue(improvements.get(i).getGeneration() > improvements.get(i - 1).getGeneration());
+        }
+        for (var improvement : improvements) {
+            assertEquals(improvement.getFitness(), nQueensProblem.fitness(improvement.getIndividual()));
+        }
+        assertEquals(last.getFitness(last.fittestIndex()), improvements.get(improvements.size() - 1).getFitness());
+    }
+    
+    @Test
+    void slowSubscriberDoesNotHoldUpRun() throws InterruptedException {
+        var executor = Executors.newSingleThreadExecutor();
+        var publisher = new ImprovementPublisher<String>(executor, 1);
+        var release = new CountDownLatch(1);
+        var received = new CountDownLatch(1);
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+            
+            @Override
+            public void onNext(Improvement<String> item) {
+                received.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            
+            @Override
+            public void onError(Throwable throwable) { }
+            
+            @Override
+            public void onComplete() { }
+        });
+        
+        publisher.onImprovement(new Improvement<>(0, "a", 3, 0));
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        for (var i = 1; i <= 100; i++) {
+            publisher.onImprovement(new Improvement<>(i, "b", 2, 0));
+        }
+        
+        assertTrue(publisher.getDroppedCount() > 0);
+        release.countDown();
+        publisher.close();
+        executor.shutdown();
+    }
+}
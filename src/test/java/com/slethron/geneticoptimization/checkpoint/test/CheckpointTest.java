@@ -0,0 +1,124 @@
+package com.slethron.geneticoptimization.checkpoint.test;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.checkpoint.Checkpoint;
+import com.slethron.geneticoptimization.checkpoint.Checkpointer;
+import com.slethron.geneticoptimization.codec.KnapsackCodec;
+import com.slethron.geneticoptimization.codec.NQueensBoardCodec;
+import com.slethron.geneticoptimization.domain.Knapsack;
+import com.slethron.geneticoptimization.problem.KnapsackProblem;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.termination.Termination;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckpointTest {
+    @Test
+    void resumedRunBreedsTheSameGenerations() throws Exception {
+        var nQueensProblem = new NQueensProblem(24);
+        var initial = nQueensProblem.generateInitialPopulation(300, new RandomProvider(11));
+        var file = Files.createTempFile("nqueens", ".checkpoint");
+        
+        try {
+            var uninterrupted = new GenerationalEngine<>(nQueensProblem, new RandomProvider(5))
+                    .run(initial, .05, .25, Termination.maxGenerations(20));
+            
+            try (var checkpointer = new Checkpointer<>(file, new NQueensBoardCodec()).withInterval(10)) {
+                new GenerationalEngine<>(nQueensProblem, new RandomProvider(5))
+                        .withCheckpointer(checkpointer)
+                        .run(initial, .05, .25, Termination.maxGenerations(10));
+                checkpointer.await();
+                assertEquals(1, checkpointer.getCheckpointCount());
+            }
+            
+            var checkpoint = Checkpoint.read(file, new NQueensBoardCodec());
+            assertEquals(5, checkpoint.getSeed());
+            assertEquals(10, checkpoint.getGeneration());
+            assertEquals(300 * 11, checkpoint.getEvaluations());
+            
+            var resumed = new GenerationalEngine<>(nQueensProblem, new RandomProvider(5))
+                    .resume(checkpoint, .05, .25, Termination.maxGenerations(20));
+            
+            for (var i = 0; i < resumed.size(); i++) {
+                assertEquals(uninterrupted.get(i), resumed.get(i));
+                assertEquals(uninterrupted.getFitness(i), resumed.getFitness(i));
+            }
+            assertThrows(IllegalArgumentException.class, () -> new GenerationalEngine<>(nQueensProblem,
+                    new RandomProvider(6)).resume(checkpoint, .05, .25, Termination.maxGenerations(20)));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    void inPlaceIndividualsSurviveTheWrite() throws Exception {
+        var items = new ArrayList<Knapsack.KnapsackItem>();
+        for (var i = 0; i < 200; i++) {
+            items.add(new Knapsack.KnapsackItem(i, i % 13 + 1, i % 17 + 1));
+        }
+        var catalog = new Knapsack.ItemCatalog(items);
+        var knapsackProblem = new KnapsackProblem(150, items);
+        var random = new RandomProvider(3);
+        var file = Files.createTempFile("knapsack", ".checkpoint");
+        
+        try (var checkpointer = new Checkpointer<>(file, new KnapsackCodec(catalog)).withInterval(1)) {
+            var last = new GenerationalEngine<>(knapsackProblem, random)
+                    .withCheckpointer(checkpointer)
+                    .run(knapsackProblem.generateInitialPopulation(500, random), .05, .25,
+                            Termination.maxGenerations(30));
+            checkpointer.await();
+            assertTrue(checkpointer.getCheckpointCount() > 0);
+            
+            var checkpoint = Checkpoint.read(file, new KnapsackCodec(catalog));
+            var population = checkpoint.getPopulation();
+            assertEquals(500, population.size());
+            assertTrue(population.isMaximizing());
+            for (var i = 0; i < population.size(); i++) {
+                assertEquals(population.getFitness(i), knapsackProblem.fitness(population.get(i)));
+            }
+            if (checkpoint.getGeneration() == 30) {
+                for (var i = 0; i < population.size(); i++) {
+                    assertEquals(last.get(i), population.get(i));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    void resumedRunKeepsItsStagnationWindow() throws Exception {
+        var nQueensProblem = new NQueensProblem(8);
+        var initial = nQueensProblem.generateInitialPopulation(40, new RandomProvider(2));
+        var termination = Termination.stagnation(12).or(Termination.maxGenerations(500));
+        var file = Files.createTempFile("nqueens", ".checkpoint");
+        
+        try {
+            var uninterrupted = new GenerationalEngine<>(nQueensProblem, new RandomProvider(5));
+            var expected = uninterrupted.run(initial, .05, .25, termination);
+            
+            try (var checkpointer = new Checkpointer<>(file, new NQueensBoardCodec()).withInterval(8)) {
+                new GenerationalEngine<>(nQueensProblem, new RandomProvider(5))
+                        .withCheckpointer(checkpointer)
+                        .run(initial, .05, .25, Termination.maxGenerations(8));
+                assertEquals(1, checkpointer.getCheckpointCount());
+            }
+            var checkpoint = Checkpoint.read(file, new NQueensBoardCodec());
+            var resumedEngine = new GenerationalEngine<>(nQueensProblem, new RandomProvider(5));
+            var resumed = resumedEngine.resume(checkpoint, .05, .25, termination);
+            
+            assertTrue(checkpoint.getLastImprovement() < checkpoint.getGeneration());
+            assertEquals(uninterrupted.getGeneration(), resumedEngine.getGeneration());
+            for (var i = 0; i < resumed.size(); i++) {
+                assertEquals(expected.get(i), resumed.get(i));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.slethron.geneticoptimization.codec.test;
+
+import com.slethron.geneticoptimization.codec.BitStringCodec;
+import com.slethron.geneticoptimization.codec.GenomeCodec;
+import com.slethron.geneticoptimization.codec.KnapsackCodec;
+import com.slethron.geneticoptimization.codec.NQueensBoardCodec;
+import com.slethron.geneticoptimization.codec.StringCodec;
+import com.slethron.geneticoptimization.codec.SudokuBoardCodec;
+import com.slethron.geneticoptimization.domain.Knapsack;
+import com.slethron.geneticoptimization.problem.SudokuProblem;
+import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenomeCodecTest {
+    @Test
+    void bitStringRoundTrip() throws IOException {
+        var bitString = RandomGeneratorUtil.generateRandomBitString(1000);
+        assertEquals(bitString, roundTrip(new BitStringCodec(), bitString));
+    }
+    
+    @Test
+    void nQueensBoardRoundTripAtEveryRowWidth() throws IOException {
+        for (var n : new int[]{8, 256, 257, 70000}) {
+            var board = RandomGeneratorUtil.generateRandomNQueensBoard(n);
+            assertEquals(board, roundTrip(new NQueensBoardCodec(), board));
+        }
+    }
+    
+    @Test
+    void stringRoundTrip() throws IOException {
+        var string = RandomGeneratorUtil.generateRandomString(300);
+        assertEquals(string, roundTrip(new StringCodec(), string));
+    }
+    
+    @Test
+    void sudokuBoardRoundTripSharesPuzzleStaticCells() throws IOException {
+        var puzzle = RandomGeneratorUtil.generateRandomSudokuBoard(40);
+        var board = new SudokuProblem(puzzle).generateInitialPopulation(1).get(0);
+        
+        var decoded = roundTrip(new SudokuBoardCodec(puzzle), board);
+        assertEquals(board, decoded);
+    }
+    
+    @Test
+    void knapsackRoundTrip() throws IOException {
+        var items = new ArrayList<Knapsack.KnapsackItem>();
+        for (var i = 0; i < 500; i++) {
+            items.add(new Knapsack.KnapsackItem(i, i % 13 + 1, i % 17));
+        }
+        var catalog = new Knapsack.ItemCatalog(items);
+        var knapsack = RandomGeneratorUtil.generateRandomKnapsack(300, catalog);
+        
+        var decoded = roundTrip(new KnapsackCodec(catalog), knapsack);
+        assertEquals(knapsack, decoded);
+        assertEquals(knapsack.getTotalValue(), decoded.getTotalValue());
+    }
+    
+    @Test
+    void individualsCanBeWrittenBackToBack() throws IOException {
+        var codec = new NQueensBoardCodec();
+        var first = RandomGeneratorUtil.generateRandomNQueensBoard(12);
+        var second = RandomGeneratorUtil.generateRandomNQueensBoard(300);
+        
+        var bytes = new ByteArrayOutputStream();
+        var out = new DataOutputStream(bytes);
+        codec.encode(first, out);
+        codec.encode(second, out);
+        var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        
+        assertEquals(first, codec.decode(in));
+        assertEquals(second, codec.decode(in));
+        assertTrue(in.available() == 0);
+    }
+    
+    private static <E> E roundTrip(GenomeCodec<E> codec, E individual) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        codec.encode(individual, new DataOutputStream(bytes));
+        
+        return codec.decode(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
@@ -33,4 +33,20 @@ class BitStringTest {
         other.set(0, !other.get(0));
         assertNotEquals(bitString, other);
     }
+    
+    @Test
+    void cardinalityAndHashCodeSpanWordBoundaries() {
+        var bits = new boolean[150];
+        for (var i = 0; i < bits.length; i += 3) {
+            bits[i] = true;
+        }
+        var packed = new BitString(bits);
+        var copy = new BitString(bits.clone());
+        
+        assertEquals(50, packed.cardinality());
+        assertEquals(packed.hashCode(), copy.hashCode());
+        for (var i = 0; i < bits.length; i++) {
+            assertEquals(bits[i], packed.get(i));
+        }
+    }
 }
@@ -71,4 +71,30 @@ class KnapsackTest {
         
         assertNotEquals(knapsack, knapsack2);
     }
+    
+    @Test
+    void catalogKnapsackTracksItemsByIndex() {
+        var itemsToPut = new ArrayList<Knapsack.KnapsackItem>();
+        for (var i = 0; i < 200; i++) {
+            itemsToPut.add(new Knapsack.KnapsackItem(i, 1, i));
+        }
+        var catalog = new Knapsack.ItemCatalog(itemsToPut);
+        
+        var knapsack = new Knapsack(3, catalog);
+        assertTrue(knapsack.put(130));
+        assertTrue(knapsack.put(itemsToPut.get(70)));
+        assertTrue(knapsack.put(130));
+        assertTrue(knapsack.put(5));
+        assertFalse(knapsack.put(6));
+        
+        assertEquals(3, knapsack.getItemCount());
+        assertEquals(3, knapsack.getTotalWeight());
+        assertEquals(205, knapsack.getTotalValue());
+        assertTrue(knapsack.contains(itemsToPut.get(130)));
+        assertFalse(knapsack.contains(6));
+        
+        var copy = new Knapsack(knapsack);
+        assertEquals(knapsack, copy);
+        assertEquals(knapsack.hashCode(), copy.hashCode());
+    }
 }
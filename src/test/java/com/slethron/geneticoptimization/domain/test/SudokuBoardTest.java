@@ -5,7 +5,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SudokuBoardTest {
     private SudokuBoard board;
@@ -24,4 +27,31 @@ class SudokuBoardTest {
         assertNotEquals(board.get(0, 0), board2.get(0, 0));
         assertNotEquals(board, board2);
     }
+
+    @Test
+    void duplicatesCountRepeatedDigitsPerUnitIgnoringEmptyCells() {
+        board.set(0, 4, 1);
+        board.set(0, 8, 1);
+        board.set(1, 1, 1);
+        board.set(5, 0, 2);
+
+        assertEquals(2, board.getDuplicatesInRow(0));
+        assertEquals(0, board.getDuplicatesInColumn(0));
+        assertEquals(1, board.getDuplicatesInSubgrid(0));
+        assertEquals(0, board.getDuplicatesInSubgrid(8));
+    }
+
+    @Test
+    void setStaticDoesNotAffectCopiesSharingTheStaticCells() {
+        board.setStatic(0, 0);
+        var copy = new SudokuBoard(board);
+        copy.set(1, 1, 5);
+        copy.setStatic(1, 1);
+
+        assertTrue(board.isStatic(0, 0));
+        assertTrue(copy.isStatic(0, 0));
+        assertTrue(copy.isStatic(1, 1));
+        assertFalse(board.isStatic(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> copy.set(0, 0, 2));
+    }
 }
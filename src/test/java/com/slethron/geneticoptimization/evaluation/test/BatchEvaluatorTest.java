@@ -0,0 +1,111 @@
+package com.slethron.geneticoptimization.evaluation.test;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.evaluation.AsyncFitness;
+import com.slethron.geneticoptimization.evaluation.BatchEvaluator;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchEvaluatorTest {
+    @Test
+    void batchedEngineBreedsTheSameGenerations() {
+        var nQueensProblem = new NQueensProblem(16);
+        var initial = nQueensProblem.generateInitialPopulation(300, new RandomProvider(4));
+        var executor = Executors.newFixedThreadPool(4);
+        
+        try {
+            var synchronous = new GenerationalEngine<>(nQueensProblem, new RandomProvider(6));
+            var batched = new GenerationalEngine<>(nQueensProblem, new RandomProvider(6))
+                    .withBatchEvaluator(new BatchEvaluator<>(AsyncFitness.synchronous(nQueensProblem, executor))
+                            .withBatchSize(16)
+                            .withMaxInFlight(3));
+            var a = synchronous.evaluate(initial);
+            var b = batched.evaluate(initial);
+            for (var generation = 0; generation < 15; generation++) {
+                a = synchronous.nextGeneration(a, .05, .25);
+                b = batched.nextGeneration(b, .05, .25);
+            }
+            
+            for (var i = 0; i < a.size(); i++) {
+                assertEquals(a.get(i), b.get(i));
+                assertEquals(a.getFitness(i), b.getFitness(i));
+            }
+            assertEquals(synchronous.getEvaluations(), batched.getEvaluations());
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    void duplicatesAreSentOnce() {
+        var population = new ScoredPopulation<String>(6, false);
+        var names = new String[] {"a", "bb", "a", "ccc", "bb", "a"};
+        for (var i = 0; i < names.length; i++) {
+            population.set(i, new String(names[i]), Double.NaN);
+        }
+        var evaluator = new BatchEvaluator<String>(AsyncFitness.perIndividual(
+                name -> CompletableFuture.completedFuture((double) name.length())));
+        
+        evaluator.evaluate(population, 0, population.size());
+        
+        for (var i = 0; i < names.length; i++) {
+            assertEquals(names[i].length(), population.getFitness(i));
+        }
+        assertEquals(6, evaluator.getRequested());
+        assertEquals(3, evaluator.getSent());
+    }
+    
+    @Test
+    void neverExceedsBatchesInFlight() {
+        var scheduler = Executors.newScheduledThreadPool(8);
+        var inFlight = new AtomicInteger();
+        var mostInFlight = new AtomicInteger();
+        var population = new ScoredPopulation<Integer>(200, false);
+        for (var i = 0; i < population.size(); i++) {
+            population.set(i, i, Double.NaN);
+        }
+        
+        try {
+            var evaluator = new BatchEvaluator<Integer>(batch -> {
+                mostInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                var result = new CompletableFuture<double[]>();
+                scheduler.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    result.complete(batch.stream().mapToDouble(i -> i * 2).toArray());
+                }, 5, TimeUnit.MILLISECONDS);
+                return result;
+            }).withBatchSize(10).withMaxInFlight(3);
+            
+            evaluator.evaluate(population, 50, 200);
+            
+            assertTrue(mostInFlight.get() <= 3);
+            assertTrue(Double.isNaN(population.getFitness(49)));
+            for (var i = 50; i < population.size(); i++) {
+                assertEquals(i * 2, population.getFitness(i));
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+    
+    @Test
+    void failuresReachTheCaller() {
+        var population = new ScoredPopulation<Integer>(4, false);
+        for (var i = 0; i < population.size(); i++) {
+            population.set(i, i, Double.NaN);
+        }
+        var evaluator = new BatchEvaluator<Integer>(batch ->
+                CompletableFuture.failedFuture(new IllegalArgumentException("simulator down")));
+        
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(population, 0, 4));
+    }
+}
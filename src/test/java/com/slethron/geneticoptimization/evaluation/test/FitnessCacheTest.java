@@ -0,0 +1,113 @@
+package com.slethron.geneticoptimization.evaluation.test;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.domain.BitString;
+import com.slethron.geneticoptimization.domain.NQueensBoard;
+import com.slethron.geneticoptimization.evaluation.FitnessCache;
+import com.slethron.geneticoptimization.evaluation.GenomeHash;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FitnessCacheTest {
+    @Test
+    void repeatedIndividualsAreScoredOnce() {
+        var calls = new AtomicInteger();
+        var cache = new FitnessCache<String>(16, GenomeHash.string());
+        
+        for (var name : new String[] {"a", "bb", "a", "a", "bb", "ccc"}) {
+            assertEquals(name.length(), cache.fitness(new String(name), n -> {
+                calls.incrementAndGet();
+                return n.length();
+            }));
+        }
+        
+        assertEquals(3, calls.get());
+        assertEquals(3, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        assertEquals(.5, cache.getHitRate());
+    }
+    
+    @Test
+    void sizeStaysWithinCapacity() {
+        var cache = new FitnessCache<String>(100, GenomeHash.string());
+        
+        for (var i = 0; i < 1000; i++) {
+            var name = Integer.toString(i % 300);
+            assertEquals(i % 300, cache.fitness(name, Integer::parseInt));
+        }
+        
+        assertTrue(cache.size() <= 100);
+        assertEquals(cache.getMisses() - cache.size(), cache.getEvictions());
+    }
+    
+    @Test
+    void recentlyUsedEntriesSurviveEviction() {
+        var cache = new FitnessCache<String>(4, GenomeHash.string());
+        for (var name : new String[] {"a", "b", "c", "d"}) {
+            cache.fitness(name, String::length);
+        }
+        cache.fitness("a", String::length);
+        
+        cache.fitness("e", String::length);
+        var hits = cache.getHits();
+        cache.fitness("a", String::length);
+        
+        assertEquals(hits + 1, cache.getHits());
+    }
+    
+    @Test
+    void collidingHashesAreNotMistakenForHits() {
+        var cache = new FitnessCache<String>(16, individual -> 42);
+        
+        assertEquals(1, cache.fitness("a", String::length));
+        assertEquals(2, cache.fitness("bb", String::length));
+        assertEquals(2, cache.fitness("bb", String::length));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+    
+    @Test
+    void cachedEngineBreedsTheSameGenerations() {
+        var nQueensProblem = new NQueensProblem(12);
+        var initial = nQueensProblem.generateInitialPopulation(200, new RandomProvider(4));
+        var cache = new FitnessCache<NQueensBoard>(64, GenomeHash.nQueensBoard());
+        var uncached = new GenerationalEngine<>(nQueensProblem, new RandomProvider(6));
+        var cached = new GenerationalEngine<>(nQueensProblem, new RandomProvider(6)).withFitnessCache(cache);
+        
+        var a = uncached.evaluate(initial);
+        var b = cached.evaluate(initial);
+        for (var generation = 0; generation < 30; generation++) {
+            a = uncached.nextGeneration(a, .02, .1);
+            b = cached.nextGeneration(b, .02, .1);
+        }
+        
+        assertTrue(cache.hasCopier());
+        assertTrue(cache.getHits() > 0);
+        for (var i = 0; i < a.size(); i++) {
+            assertEquals(a.get(i), b.get(i));
+            assertEquals(a.getFitness(i), b.getFitness(i));
+        }
+    }
+    
+    @Test
+    void equalGenomesHashAlike() {
+        var bits = new boolean[130];
+        bits[3] = true;
+        bits[129] = true;
+        var other = new BitString(bits);
+        other.set(64, true);
+        
+        var bitStringHash = GenomeHash.bitString();
+        assertEquals(bitStringHash.hash(new BitString(bits)), bitStringHash.hash(new BitString(bits)));
+        assertNotEquals(bitStringHash.hash(new BitString(bits)), bitStringHash.hash(other));
+        assertEquals(GenomeHash.nQueensBoard().hash(new NQueensBoard(new int[] {1, 3, 0, 2})),
+                GenomeHash.nQueensBoard().hash(new NQueensBoard(new int[] {1, 3, 0, 2})));
+        assertNotEquals(GenomeHash.nQueensBoard().hash(new NQueensBoard(new int[] {1, 3, 0, 2})),
+                GenomeHash.nQueensBoard().hash(new NQueensBoard(new int[] {2, 0, 3, 1})));
+    }
+}
@@ -0,0 +1,50 @@
+package com.slethron.geneticoptimization.island.test;
+
+import com.slethron.geneticoptimization.codec.NQueensBoardCodec;
+import com.slethron.geneticoptimization.island.IslandCoordinator;
+import com.slethron.geneticoptimization.island.IslandNode;
+import com.slethron.geneticoptimization.island.MigrationTopology;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IslandCoordinatorTest {
+    @Test
+    void nodesOverLoopbackStopOnceOneReachesTarget() throws Exception {
+        var nQueensProblem = new NQueensProblem(12);
+        var nodeCount = 3;
+        var executor = Executors.newFixedThreadPool(nodeCount);
+        try (var coordinator = new IslandCoordinator<>(new NQueensBoardCodec(), false, nodeCount)
+                .withTopology(MigrationTopology.FULLY_CONNECTED)
+                .withTargetFitness(0)) {
+            var port = coordinator.bind(0);
+            var nodes = new ArrayList<Future<?>>();
+            for (var i = 0; i < nodeCount; i++) {
+                var index = i;
+                nodes.add(executor.submit(() -> {
+                    var random = new RandomProvider(index);
+                    var population = nQueensProblem.generateInitialPopulation(200, random);
+                    return new IslandNode<>(nQueensProblem, new NQueensBoardCodec(), random)
+                            .withMigrationInterval(3)
+                            .run(port, index, population, 100000, .05, .25);
+                }));
+            }
+            
+            var best = coordinator.run();
+            for (var node : nodes) {
+                node.get();
+            }
+            
+            assertEquals(0, coordinator.getBestFitness());
+            assertEquals(0, nQueensProblem.fitness(best));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.slethron.geneticoptimization.island.test;
+
+import com.slethron.geneticoptimization.domain.Knapsack;
+import com.slethron.geneticoptimization.island.IslandEngine;
+import com.slethron.geneticoptimization.island.MigrationTopology;
+import com.slethron.geneticoptimization.problem.KnapsackProblem;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IslandEngineTest {
+    @Test
+    void ringOfIslandsSolvesNQueensAndReturnsWholePopulation() {
+        var nQueensProblem = new NQueensProblem(10);
+        var random = new RandomProvider(11);
+        var population = nQueensProblem.generateInitialPopulation(400, random);
+        
+        var result = new IslandEngine<>(nQueensProblem, 4, random)
+                .withMigrationInterval(5)
+                .withTargetFitness(0)
+                .optimize(population, 5000, .05, .25);
+        
+        assertEquals(population.size(), result.size());
+        assertEquals(0, nQueensProblem.fitness(result.get(0)));
+    }
+    
+    @Test
+    void fullyConnectedIslandsOrderResultFromFittest() {
+        var items = new ArrayList<Knapsack.KnapsackItem>();
+        for (var i = 0; i < 40; i++) {
+            items.add(new Knapsack.KnapsackItem(i, i % 7 + 1, i % 11 + 1));
+        }
+        var knapsackProblem = new KnapsackProblem(30, items);
+        var random = new RandomProvider(5);
+        var population = knapsackProblem.generateInitialPopulation(300, random);
+        
+        var result = new IslandEngine<>(knapsackProblem, 3, random)
+                .withTopology(MigrationTopology.FULLY_CONNECTED)
+                .withMigrationInterval(3)
+                .optimize(population, 30, .05, .1);
+        
+        assertEquals(population.size(), result.size());
+        for (var i = 1; i < 30; i++) {
+            assertTrue(result.get(i - 1).getTotalValue() >= result.get(i).getTotalValue());
+        }
+        for (var knapsack : result) {
+            assertTrue(knapsack.getTotalWeight() <= 30);
+        }
+    }
+}
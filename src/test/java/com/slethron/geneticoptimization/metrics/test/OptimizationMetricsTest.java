@@ -0,0 +1,93 @@
+package com.slethron.geneticoptimization.metrics.test;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.metrics.OptimizationMetrics;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.termination.Termination;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimizationMetricsTest {
+    @Test
+    void engineRecordsEveryPhaseAndGeneration() {
+        var nQueensProblem = new NQueensProblem(16);
+        var random = new RandomProvider(4);
+        var metrics = new OptimizationMetrics();
+        
+        new GenerationalEngine<>(nQueensProblem, random)
+                .withMetrics(metrics)
+                .run(nQueensProblem.generateInitialPopulation(200, random), .05, .25,
+                        Termination.maxGenerations(20));
+        
+        assertEquals(20, metrics.getGenerations());
+        assertEquals(200 * 21, metrics.getEvaluations());
+        assertTrue(metrics.getSelectionNanos() > 0);
+        assertTrue(metrics.getCrossoverNanos() > 0);
+        assertTrue(metrics.getMutationNanos() > 0);
+        assertTrue(metrics.getFitnessNanos() > 0);
+        assertTrue(metrics.getBestFitness() <= metrics.getMeanFitness());
+        assertTrue(metrics.getMeanFitness() <= metrics.getWorstFitness());
+        assertTrue(metrics.getSampledDiversity() > 0 && metrics.getSampledDiversity() <= 1);
+        assertTrue(metrics.getGenerationNanosP50() <= metrics.getGenerationNanosP99());
+        
+        var recorded = 0L;
+        for (var count : metrics.getGenerationNanosHistogram()) {
+            recorded += count;
+        }
+        assertEquals(20, recorded);
+    }
+    
+    @Test
+    void registeredMetricsAreVisibleUntilClosed() throws Exception {
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var metrics = OptimizationMetrics.register("test");
+        var name = metrics.getObjectName();
+        
+        assertTrue(server.isRegistered(name));
+        assertEquals(0L, server.getAttribute(name, "Generations"));
+        
+        metrics.close();
+        assertFalse(server.isRegistered(name));
+        assertNull(metrics.getObjectName());
+    }
+    
+    @Test
+    void allocationStaysNonNegativeWhenAThreadDiesBetweenGenerations() throws Exception {
+        var population = new ScoredPopulation<String>(2, false);
+        population.set(0, "a", 1);
+        population.set(1, "b", 2);
+        var metrics = new OptimizationMetrics();
+        var allocated = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var buffers = new byte[1][];
+        var worker = new Thread(() -> {
+            buffers[0] = new byte[16 << 20];
+            allocated.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        worker.start();
+        allocated.await();
+        
+        metrics.recordGeneration(population, 1);
+        var whileAlive = metrics.getLastGenerationAllocatedBytes();
+        release.countDown();
+        worker.join();
+        metrics.recordGeneration(population, 1);
+        
+        if (whileAlive != -1) {
+            assertTrue(whileAlive >= 16 << 20);
+            assertTrue(metrics.getLastGenerationAllocatedBytes() >= 0);
+        }
+        assertEquals(16 << 20, buffers[0].length);
+    }
+}
@@ -1,5 +1,6 @@
 package com.slethron.geneticoptimization.problem.test;
 
+import com.slethron.geneticoptimization.domain.BitString;
 import com.slethron.geneticoptimization.problem.BitStringProblem;
 import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,4 +42,35 @@ class BitStringProblemTest {
             assertTrue(child.get(i) == parentA.get(i) || child.get(i) == parentB.get(i));
         }
     }
+    
+    @Test
+    void generateIndividualFromParentsSplitsMultiWordParentsOnce() {
+        var longLength = 300;
+        var longBitStringProblem = new BitStringProblem(longLength);
+        var parentA = new BitString(longLength);
+        var parentB = new BitString(longLength);
+        for (var i = 0; i < longLength; i++) {
+            parentB.set(i, true);
+        }
+        
+        var child = longBitStringProblem.generateIndividualFromParents(parentA, parentB);
+        
+        var split = longLength - child.cardinality();
+        for (var i = 0; i < longLength; i++) {
+            assertEquals(i >= split, child.get(i));
+        }
+    }
+    
+    @Test
+    void mutateFlipsRoughlyMutationRateOfTheBitsAndFitnessCountsZeros() {
+        var longLength = 100_000;
+        var longBitStringProblem = new BitStringProblem(longLength);
+        var individual = new BitString(longLength);
+        
+        var mutated = longBitStringProblem.mutate(individual, .1);
+        
+        assertEquals(0, individual.cardinality());
+        assertTrue(Math.abs(mutated.cardinality() - longLength * .1) < longLength * .01);
+        assertEquals(longLength - mutated.cardinality(), longBitStringProblem.fitness(mutated));
+    }
 }
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class KnapsackProblemTest {
@@ -44,8 +45,8 @@ class KnapsackProblemTest {
     
     @Test
     void generateIndividualFromParentsGeneratesChildThatHasElementsFromOneOrBothParents() {
-        var parentA = RandomGeneratorUtil.generateRandomKnapsack(maxWeight, items);
-        var parentB = RandomGeneratorUtil.generateRandomKnapsack(maxWeight, items);
+        var parentA = RandomGeneratorUtil.generateRandomKnapsack(maxWeight, knapsackProblem.getCatalog());
+        var parentB = RandomGeneratorUtil.generateRandomKnapsack(maxWeight, knapsackProblem.getCatalog());
         
         var child = knapsackProblem.generateIndividualFromParents(parentA, parentB);
         
@@ -54,4 +55,39 @@ class KnapsackProblemTest {
             assertTrue(parentA.getItems().contains(item) || parentB.getItems().contains(item));
         }
     }
+    
+    @Test
+    void mutateKeepsKnapsackWithinMaxWeightAndLeavesParentUnchanged() {
+        var parent = RandomGeneratorUtil.generateRandomKnapsack(maxWeight, knapsackProblem.getCatalog());
+        var parentItems = parent.getItems();
+        
+        var mutated = knapsackProblem.mutate(parent, 1);
+        
+        assertEquals(parentItems, parent.getItems());
+        assertTrue(mutated.getTotalWeight() <= maxWeight);
+        var totalValue = 0;
+        for (var item : mutated.getItems()) {
+            assertTrue(items.contains(item));
+            totalValue += item.getValue();
+        }
+        assertEquals(totalValue, mutated.getTotalValue());
+    }
+    
+    @Test
+    void knapsacksFromAnotherCatalogAreRejected() {
+        var parent = RandomGeneratorUtil.generateRandomKnapsack(maxWeight, knapsackProblem.getCatalog());
+        var foreign = new Knapsack(maxWeight);
+        for (var i = items.size() - 1; i >= 0; i--) {
+            foreign.put(items.get(i));
+        }
+        foreign.put(new Knapsack.KnapsackItem(items.size(), 1, 1));
+        
+        assertThrows(IllegalArgumentException.class,
+                () -> knapsackProblem.generateIndividualFromParents(parent, foreign));
+        assertThrows(IllegalArgumentException.class,
+                () -> knapsackProblem.generateIndividualFromParents(foreign, parent));
+        assertThrows(IllegalArgumentException.class, () -> knapsackProblem.mutate(foreign, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> knapsackProblem.crossoverInto(parent, parent, new Knapsack(maxWeight)));
+    }
 }
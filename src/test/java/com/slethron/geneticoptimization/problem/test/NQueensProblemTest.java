@@ -1,5 +1,6 @@
 package com.slethron.geneticoptimization.problem.test;
 
+import com.slethron.geneticoptimization.GeneChanges;
 import com.slethron.geneticoptimization.problem.NQueensProblem;
 import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,4 +42,55 @@ class NQueensProblemTest {
             assertTrue(child.get(i) == parentA.get(i) || child.get(i) == parentB.get(i));
         }
     }
+    
+    @Test
+    void fitnessMatchesPairwiseConflictCount() {
+        for (var trial = 0; trial < 100; trial++) {
+            var board = RandomGeneratorUtil.generateRandomNQueensBoard(n);
+            
+            var numberOfConflicts = 0;
+            for (var i = 0; i < n - 1; i++) {
+                for (var j = i + 1; j < n; j++) {
+                    if (board.get(i) == board.get(j)
+                            || Math.abs(board.get(j) - board.get(i)) == Math.abs(j - i)) {
+                        numberOfConflicts++;
+                    }
+                }
+            }
+            
+            assertEquals(numberOfConflicts, nQueensProblem.fitness(board));
+        }
+    }
+    
+    @Test
+    void incrementalFitnessMatchesFullFitnessAfterMutation() {
+        var changes = new GeneChanges();
+        for (var trial = 0; trial < 200; trial++) {
+            var parent = RandomGeneratorUtil.generateRandomNQueensBoard(n);
+            var child = nQueensProblem.copy(parent);
+            changes.clear();
+            
+            nQueensProblem.mutateInPlace(child, .1, changes);
+            
+            assertEquals(nQueensProblem.fitness(child),
+                    nQueensProblem.fitness(child, parent, nQueensProblem.fitness(parent), changes));
+        }
+    }
+    
+    @Test
+    void incrementalFitnessMatchesFullFitnessAfterCrossover() {
+        var changes = new GeneChanges();
+        for (var trial = 0; trial < 200; trial++) {
+            var parentA = RandomGeneratorUtil.generateRandomNQueensBoard(n);
+            var parentB = RandomGeneratorUtil.generateRandomNQueensBoard(n);
+            var child = nQueensProblem.copy(parentA);
+            changes.clear();
+            
+            nQueensProblem.crossoverInto(parentA, parentB, child, changes);
+            nQueensProblem.mutateInPlace(child, .02, changes);
+            
+            assertEquals(nQueensProblem.fitness(child),
+                    nQueensProblem.fitness(child, parentA, nQueensProblem.fitness(parentA), changes));
+        }
+    }
 }
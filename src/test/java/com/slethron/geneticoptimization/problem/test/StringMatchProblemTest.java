@@ -1,5 +1,6 @@
 package com.slethron.geneticoptimization.problem.test;
 
+import com.slethron.geneticoptimization.GeneChanges;
 import com.slethron.geneticoptimization.problem.StringMatchProblem;
 import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,4 +42,20 @@ class StringMatchProblemTest {
             assertTrue(child.charAt(i) == parentA.charAt(i) || child.charAt(i) == parentB.charAt(i));
         }
     }
+    
+    @Test
+    void incrementalFitnessMatchesFullFitnessAfterCrossoverAndMutation() {
+        var changes = new GeneChanges();
+        for (var trial = 0; trial < 100; trial++) {
+            var parentA = RandomGeneratorUtil.generateRandomString(target.length());
+            var parentB = RandomGeneratorUtil.generateRandomString(target.length());
+            changes.clear();
+            
+            var child = stringMatchProblem.generateIndividualFromParents(parentA, parentB, changes);
+            child = stringMatchProblem.mutate(child, .1, changes);
+            
+            assertEquals(stringMatchProblem.fitness(child),
+                    stringMatchProblem.fitness(child, parentA, stringMatchProblem.fitness(parentA), changes));
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.slethron.geneticoptimization.problem.test;
 
+import com.slethron.geneticoptimization.GeneChanges;
 import com.slethron.geneticoptimization.domain.SudokuBoard;
 import com.slethron.geneticoptimization.problem.SudokuProblem;
 import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
@@ -52,4 +53,21 @@ class SudokuProblemTest {
             }
         }
     }
+    
+    @Test
+    void incrementalFitnessMatchesFullFitnessAfterCrossoverAndMutation() {
+        var population = sudokuProblem.generateInitialPopulation(100);
+        var changes = new GeneChanges();
+        for (var i = 0; i < population.size() - 1; i++) {
+            var parentA = population.get(i);
+            var child = sudokuProblem.copy(parentA);
+            changes.clear();
+            
+            sudokuProblem.crossoverInto(parentA, population.get(i + 1), child, changes);
+            sudokuProblem.mutateInPlace(child, .05, changes);
+            
+            assertEquals(sudokuProblem.fitness(child),
+                    sudokuProblem.fitness(child, parentA, sudokuProblem.fitness(parentA), changes));
+        }
+    }
 }
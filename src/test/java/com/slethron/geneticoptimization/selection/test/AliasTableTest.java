@@ -0,0 +1,95 @@
+package com.slethron.geneticoptimization.selection.test;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.selection.AliasTable;
+import com.slethron.geneticoptimization.selection.FitnessProportionateSelection;
+import com.slethron.geneticoptimization.selection.ParentSelector;
+import com.slethron.geneticoptimization.selection.RankSelection;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AliasTableTest {
+    private static final int DRAWS = 200000;
+    
+    @Test
+    void samplesInProportionToWeights() {
+        var weights = new double[] {1, 0, 3, 6, 0, 10};
+        var table = new AliasTable(weights.clone());
+        var counts = new int[weights.length];
+        var random = new Random(1);
+        
+        for (var i = 0; i < DRAWS; i++) {
+            counts[table.sample(random)]++;
+        }
+        
+        for (var i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 20, (double) counts[i] / DRAWS, .01);
+        }
+        assertEquals(0, counts[1]);
+        assertEquals(0, counts[4]);
+    }
+    
+    @Test
+    void allZeroWeightsSampleUniformly() {
+        var table = new AliasTable(new double[4]);
+        var counts = new int[4];
+        var random = new Random(2);
+        
+        for (var i = 0; i < DRAWS; i++) {
+            counts[table.sample(random)]++;
+        }
+        
+        for (var count : counts) {
+            assertEquals(.25, (double) count / DRAWS, .01);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1, -1}));
+    }
+    
+    @Test
+    void fitnessProportionateFavorsTheFittestInEitherDirection() {
+        for (var maximizing : new boolean[] {false, true}) {
+            var population = new ScoredPopulation<Integer>(4, maximizing);
+            population.set(0, 0, 10);
+            population.set(1, 1, 20);
+            population.set(2, 2, 30);
+            population.set(3, 3, 40);
+            var counts = draw(new FitnessProportionateSelection().prepare(population), 4);
+            
+            var fittest = maximizing ? 3 : 0;
+            var leastFit = maximizing ? 0 : 3;
+            assertEquals(0, counts[leastFit]);
+            assertEquals(.5, (double) counts[fittest] / DRAWS, .01);
+        }
+    }
+    
+    @Test
+    void rankSelectionDependsOnlyOnOrder() {
+        var population = new ScoredPopulation<Integer>(5, false);
+        var fitness = new double[] {3, 1000, 2, 1e-9, 1};
+        for (var i = 0; i < fitness.length; i++) {
+            population.set(i, i, fitness[i]);
+        }
+        
+        var counts = draw(new RankSelection(2).prepare(population), 5);
+        
+        // Ranks from the fittest are 0 for index 3, then 4, 2, 0 and 1, with weights 2, 1.5, 1, .5 and 0
+        assertEquals(.4, (double) counts[3] / DRAWS, .01);
+        assertEquals(.3, (double) counts[4] / DRAWS, .01);
+        assertEquals(.2, (double) counts[2] / DRAWS, .01);
+        assertEquals(.1, (double) counts[0] / DRAWS, .01);
+        assertEquals(0, counts[1]);
+    }
+    
+    private static int[] draw(ParentSelector selector, int size) {
+        var counts = new int[size];
+        var random = new Random(3);
+        for (var i = 0; i < DRAWS; i++) {
+            counts[selector.select(random)]++;
+        }
+        
+        return counts;
+    }
+}
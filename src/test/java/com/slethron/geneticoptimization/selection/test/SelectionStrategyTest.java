@@ -0,0 +1,89 @@
+package com.slethron.geneticoptimization.selection.test;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.selection.TournamentSelection;
+import com.slethron.geneticoptimization.selection.TruncationSelection;
+import com.slethron.geneticoptimization.termination.Termination;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelectionStrategyTest {
+    @Test
+    void truncationOnlyDrawsFromFittestSlice() {
+        var population = population(100, false);
+        var selector = new TruncationSelection(.1).prepare(population);
+        var random = new Random(1);
+        
+        for (var i = 0; i < 1000; i++) {
+            assertTrue(population.getFitness(selector.select(random)) < 10);
+        }
+    }
+    
+    @Test
+    void largeTournamentsFavorTheFittestInEitherDirection() {
+        var random = new Random(2);
+        for (var maximizing : new boolean[] {false, true}) {
+            var population = population(50, maximizing);
+            var fittest = population.fittestIndex();
+            var selector = new TournamentSelection(200).prepare(population);
+            var hits = 0;
+            for (var i = 0; i < 100; i++) {
+                if (selector.select(random) == fittest) {
+                    hits++;
+                }
+            }
+            assertTrue(hits > 95);
+        }
+        
+        assertThrows(IllegalArgumentException.class, () -> new TournamentSelection(0));
+    }
+    
+    @Test
+    void elitismNeverLosesTheBestIndividual() {
+        var nQueensProblem = new NQueensProblem(20);
+        var random = new RandomProvider(8);
+        var engine = new GenerationalEngine<>(nQueensProblem, random)
+                .withSelection(new TournamentSelection(3))
+                .withElitism(2);
+        
+        var scored = engine.evaluate(nQueensProblem.generateInitialPopulation(200, random));
+        var best = scored.getFitness(scored.fittestIndex());
+        for (var generation = 0; generation < 30; generation++) {
+            scored = engine.nextGeneration(scored, .1, 1);
+            var nextBest = scored.getFitness(scored.fittestIndex());
+            assertTrue(nextBest <= best);
+            best = nextBest;
+        }
+        assertEquals(200 + 30 * 198, engine.getEvaluations());
+    }
+    
+    @Test
+    void optimizerWithStrategyReturnsOrderedPopulation() {
+        var nQueensProblem = new NQueensProblem(12);
+        var random = new RandomProvider(3);
+        
+        var result = nQueensProblem.optimize(nQueensProblem.generateInitialPopulation(100, random),
+                Termination.maxGenerations(20), .05, new TournamentSelection(2), 1);
+        
+        assertEquals(100, result.size());
+        for (var i = 1; i < result.size(); i++) {
+            assertTrue(nQueensProblem.fitness(result.get(i - 1)) <= nQueensProblem.fitness(result.get(i)));
+        }
+    }
+    
+    private static ScoredPopulation<Integer> population(int size, boolean maximizing) {
+        var population = new ScoredPopulation<Integer>(size, maximizing);
+        for (var i = 0; i < size; i++) {
+            var index = (i * 37) % size;
+            population.set(index, index, i);
+        }
+        
+        return population;
+    }
+}
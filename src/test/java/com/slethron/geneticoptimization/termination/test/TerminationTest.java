@@ -0,0 +1,87 @@
+package com.slethron.geneticoptimization.termination.test;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.SteadyStateEngine;
+import com.slethron.geneticoptimization.problem.BitStringProblem;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.termination.CancellationToken;
+import com.slethron.geneticoptimization.termination.EvolutionProgress;
+import com.slethron.geneticoptimization.termination.Termination;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerminationTest {
+    @Test
+    void stagnationCountsGenerationsSinceLastImprovement() {
+        var progress = new EvolutionProgress(false);
+        var stagnation = Termination.stagnation(2);
+        progress.update(0, 10, 5);
+        progress.update(1, 20, 4);
+        progress.update(2, 30, 4);
+        assertFalse(stagnation.isMet(progress));
+        progress.update(3, 40, 6);
+        assertTrue(stagnation.isMet(progress));
+        assertEquals(4, progress.getBestFitness());
+    }
+    
+    @Test
+    void targetFitnessFollowsDirectionOfProblem() {
+        var progress = new EvolutionProgress(true);
+        progress.update(0, 10, 7);
+        assertTrue(Termination.targetFitness(7).isMet(progress));
+        assertFalse(Termination.targetFitness(8).isMet(progress));
+    }
+    
+    @Test
+    void combinedCriteria() {
+        var progress = new EvolutionProgress(false);
+        progress.update(5, 500, 1);
+        var generations = Termination.maxGenerations(5);
+        var evaluations = Termination.maxEvaluations(1000);
+        assertTrue(generations.or(evaluations).isMet(progress));
+        assertFalse(generations.and(evaluations).isMet(progress));
+    }
+    
+    @Test
+    void generationalRunStopsAtGenerationLimitAndCountsEvaluations() {
+        var nQueensProblem = new NQueensProblem(30);
+        var random = new RandomProvider(1);
+        var engine = new GenerationalEngine<>(nQueensProblem, random);
+        
+        engine.run(nQueensProblem.generateInitialPopulation(100, random), .05, .25,
+                Termination.maxGenerations(7).or(Termination.targetFitness(0)));
+        
+        assertTrue(engine.getGeneration() <= 7);
+        assertEquals(100 * (engine.getGeneration() + 1), engine.getEvaluations());
+    }
+    
+    @Test
+    void deterministicOptimizerStopsOnDeadlineWithoutSolution() {
+        var bitStringProblem = new BitStringProblem(200000);
+        var population = bitStringProblem.generateInitialPopulation(50);
+        
+        var fittest = bitStringProblem.optimizeUntil(population, Termination.deadline(Duration.ofMillis(200)),
+                .5, .25);
+        
+        assertNotEquals(0, bitStringProblem.fitness(fittest));
+    }
+    
+    @Test
+    void cancelledTokenStopsSteadyStateRun() {
+        var nQueensProblem = new NQueensProblem(500);
+        var random = new RandomProvider(4);
+        var token = new CancellationToken();
+        token.cancel();
+        
+        var engine = new SteadyStateEngine<>(nQueensProblem, random)
+                .withThreads(2)
+                .withTermination(Termination.cancelled(token));
+        engine.optimize(nQueensProblem.generateInitialPopulation(20, random), .05);
+        
+        assertEquals(20, engine.getEvaluations());
+    }
+}
@@ -0,0 +1,35 @@
+package com.slethron.geneticoptimization.test;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationalEngineTest {
+    @Test
+    void inPlaceBreedingReusesBuffersWithoutTouchingInitialPopulation() {
+        var nQueensProblem = new NQueensProblem(12);
+        var random = new RandomProvider(3);
+        var initialPopulation = nQueensProblem.generateInitialPopulation(200, random);
+        var initialCopy = new ArrayList<>();
+        for (var board : initialPopulation) {
+            initialCopy.add(nQueensProblem.copy(board));
+        }
+        
+        var engine = new GenerationalEngine<>(nQueensProblem, random);
+        var first = engine.nextGeneration(engine.evaluate(initialPopulation), .05, .25);
+        var second = engine.nextGeneration(first, .05, .25);
+        var third = engine.nextGeneration(second, .05, .25);
+        
+        assertSame(first, third);
+        assertNotSame(second, third);
+        assertEquals(initialCopy, initialPopulation);
+        for (var i = 0; i < third.size(); i++) {
+            assertEquals(nQueensProblem.fitness(third.get(i)), third.getFitness(i));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.slethron.geneticoptimization.test;
+
+import com.slethron.geneticoptimization.ScoredPopulation;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoredPopulationTest {
+    @Test
+    void sortOrdersMinimizingPopulationByAscendingFitness() {
+        var random = new Random();
+        var population = new ScoredPopulation<Integer>(500, false);
+        for (var i = 0; i < population.size(); i++) {
+            var score = random.nextInt(50);
+            population.set(i, score, score);
+        }
+        
+        population.sort();
+        
+        for (var i = 1; i < population.size(); i++) {
+            assertTrue(population.getFitness(i - 1) <= population.getFitness(i));
+            assertEquals(population.getFitness(i), (double) population.get(i));
+        }
+    }
+    
+    @Test
+    void sortOrdersMaximizingPopulationByDescendingFitness() {
+        var random = new Random();
+        var population = new ScoredPopulation<Integer>(500, true);
+        for (var i = 0; i < population.size(); i++) {
+            var score = random.nextInt(50);
+            population.set(i, score, score);
+        }
+        
+        population.sort();
+        
+        assertEquals(0, population.fittestIndex());
+        for (var i = 1; i < population.size(); i++) {
+            assertTrue(population.getFitness(i - 1) >= population.getFitness(i));
+        }
+    }
+    
+    @Test
+    void selectFittestReturnsSameScoresAsFullSortIncludingTies() {
+        var random = new Random();
+        var population = new ScoredPopulation<Integer>(50_000, false);
+        for (var i = 0; i < population.size(); i++) {
+            var score = random.nextInt(100);
+            population.set(i, score, score);
+        }
+        var count = population.size() / 4;
+        
+        var selected = population.selectFittest(count);
+        
+        var selectedScores = Arrays.stream(selected).mapToDouble(population::getFitness).sorted().toArray();
+        population.sort();
+        assertEquals(count, Arrays.stream(selected).distinct().count());
+        for (var i = 0; i < count; i++) {
+            assertEquals(population.getFitness(i), selectedScores[i]);
+        }
+    }
+    
+    @Test
+    void alternatingSelectionCountsReuseTheirArrays() {
+        var population = new ScoredPopulation<Integer>(100, false);
+        for (var i = 0; i < population.size(); i++) {
+            population.set(i, i, i);
+        }
+        
+        var elites = population.selectFittest(2);
+        var pool = population.selectFittest(25);
+        
+        assertSame(elites, population.selectFittest(2));
+        assertSame(pool, population.selectFittest(25));
+        assertNotSame(elites, pool);
+    }
+    
+    @Test
+    void sortFittestOrdersOnlyTheLeadingSliceOfMaximizingPopulation() {
+        var random = new Random();
+        var population = new ScoredPopulation<Integer>(10_000, true);
+        for (var i = 0; i < population.size(); i++) {
+            var score = random.nextInt(1000);
+            population.set(i, score, score);
+        }
+        var count = 100;
+        
+        population.sortFittest(count);
+        
+        for (var i = 1; i < count; i++) {
+            assertTrue(population.getFitness(i - 1) >= population.getFitness(i));
+        }
+        for (var i = count; i < population.size(); i++) {
+            assertTrue(population.getFitness(count - 1) >= population.getFitness(i));
+        }
+    }
+    
+    @Test
+    void sortFittestScansOnTheGivenContext() {
+        var random = new Random(4);
+        var population = new ScoredPopulation<Integer>(50_000, false);
+        for (var i = 0; i < population.size(); i++) {
+            var score = random.nextInt(1000);
+            population.set(i, score, score);
+        }
+        var executor = Executors.newFixedThreadPool(2);
+        var handedOver = new AtomicInteger();
+        var count = 100;
+        
+        try {
+            population.sortFittest(count, ExecutionContext.of(task -> {
+                handedOver.incrementAndGet();
+                executor.execute(task);
+            }, 2));
+        } finally {
+            executor.shutdown();
+        }
+        
+        assertTrue(handedOver.get() > 0);
+        for (var i = 1; i < count; i++) {
+            assertTrue(population.getFitness(i - 1) <= population.getFitness(i));
+        }
+        for (var i = count; i < population.size(); i++) {
+            assertTrue(population.getFitness(count - 1) <= population.getFitness(i));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.slethron.geneticoptimization.test;
+
+import com.slethron.geneticoptimization.SteadyStateEngine;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.problem.StringMatchProblem;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SteadyStateEngineTest {
+    @Test
+    void stopsWhenTargetFitnessIsReached() {
+        var nQueensProblem = new NQueensProblem(8);
+        var random = new RandomProvider(17);
+        var population = nQueensProblem.generateInitialPopulation(200, random);
+        
+        var result = new SteadyStateEngine<>(nQueensProblem, random)
+                .withThreads(4)
+                .withTargetFitness(0)
+                .optimize(population, .05);
+        
+        assertEquals(population.size(), result.size());
+        assertEquals(0, nQueensProblem.fitness(result.get(0)));
+    }
+    
+    @Test
+    void spendsExactlyTheEvaluationBudget() {
+        var stringMatchProblem = new StringMatchProblem("steady state");
+        var random = new RandomProvider(2);
+        var population = stringMatchProblem.generateInitialPopulation(100, random);
+        
+        var engine = new SteadyStateEngine<>(stringMatchProblem, random)
+                .withThreads(3)
+                .withEvaluationBudget(5000);
+        var result = engine.optimize(population, .05);
+        
+        assertEquals(5000, engine.getEvaluations());
+        for (var i = 1; i < result.size(); i++) {
+            assertTrue(stringMatchProblem.fitness(result.get(i - 1)) <= stringMatchProblem.fitness(result.get(i)));
+        }
+    }
+    
+    @Test
+    void requiresBudgetOrTarget() {
+        var nQueensProblem = new NQueensProblem(8);
+        var population = nQueensProblem.generateInitialPopulation(10);
+        
+        assertThrows(IllegalStateException.class,
+                () -> new SteadyStateEngine<>(nQueensProblem).optimize(population, .05));
+    }
+}
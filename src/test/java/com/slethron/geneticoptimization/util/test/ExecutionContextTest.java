@@ -0,0 +1,149 @@
+package com.slethron.geneticoptimization.util.test;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.util.ExecutionContext;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionContextTest {
+    @Test
+    void everySlotRunsOnceInEveryContext() throws Exception {
+        var executor = Executors.newFixedThreadPool(3);
+        try (var dedicated = ExecutionContext.dedicated(2)) {
+            var contexts = new ExecutionContext[] {
+                    ExecutionContext.sequential(),
+                    ExecutionContext.commonPool().withGrainSize(7),
+                    dedicated,
+                    ExecutionContext.of(executor, 3).withGrainSize(10)
+            };
+            for (var execution : contexts) {
+                var runs = new AtomicIntegerArray(1000);
+                execution.forEach(5, 1000, runs::incrementAndGet);
+                for (var i = 0; i < 1000; i++) {
+                    assertEquals(i < 5 ? 0 : 1, runs.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    void chunksStartAtMultiplesOfTheGrainSize() {
+        var starts = Collections.newSetFromMap(new ConcurrentHashMap<Integer, Boolean>());
+        ExecutionContext.commonPool().forEachChunk(3, 100, 25, (from, to) -> {
+            assertEquals(Math.min(100, from + 25), to);
+            starts.add(from);
+        });
+        
+        assertEquals(new HashSet<>(List.of(3, 28, 53, 78)), starts);
+    }
+    
+    @Test
+    void saturatedExecutorDoesNotBlockTheCaller() {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(60000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            var runs = new AtomicIntegerArray(100);
+            
+            assertTimeout(() -> ExecutionContext.of(executor, 4).withGrainSize(1).forEach(0, 100,
+                    runs::incrementAndGet));
+            for (var i = 0; i < 100; i++) {
+                assertEquals(1, runs.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void callerWaitsForChunksStillRunningOnTheExecutor() throws Exception {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var caller = Thread.currentThread();
+            var started = new CountDownLatch(2);
+            var runs = new AtomicIntegerArray(2);
+            
+            ExecutionContext.of(executor, 2).withGrainSize(1).forEach(0, 2, i -> {
+                started.countDown();
+                try {
+                    assertTrue(started.await(10, TimeUnit.SECONDS));
+                    if (Thread.currentThread() != caller) {
+                        Thread.sleep(100);
+                    }
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                runs.incrementAndGet(i);
+            });
+            
+            assertEquals(1, runs.get(0));
+            assertEquals(1, runs.get(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    void failuresReachTheCaller() {
+        try (var dedicated = ExecutionContext.dedicated(2)) {
+            assertThrows(IllegalStateException.class, () -> dedicated.withGrainSize(1).forEach(0, 10, i -> {
+                if (i == 7) {
+                    throw new IllegalStateException();
+                }
+            }));
+        }
+    }
+    
+    @Test
+    void dedicatedPoolBreedsTheSameGenerationsAsCommonPool() {
+        var nQueensProblem = new NQueensProblem(16);
+        var initial = nQueensProblem.generateInitialPopulation(400, new RandomProvider(2));
+        var threads = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        
+        try (var dedicated = ExecutionContext.dedicated(3).withGrainSize(16)) {
+            var onCommonPool = new GenerationalEngine<>(nQueensProblem, new RandomProvider(7));
+            var onDedicatedPool = new GenerationalEngine<>(nQueensProblem, new RandomProvider(7))
+                    .withExecution(dedicated);
+            var a = onCommonPool.evaluate(initial);
+            var b = onDedicatedPool.evaluate(initial);
+            for (var generation = 0; generation < 10; generation++) {
+                a = onCommonPool.nextGeneration(a, .05, .25);
+                b = onDedicatedPool.nextGeneration(b, .05, .25);
+            }
+            for (var i = 0; i < a.size(); i++) {
+                assertEquals(a.get(i), b.get(i));
+            }
+            
+            dedicated.forEach(0, 64, i -> threads.add(Thread.currentThread().getName()));
+        }
+        
+        for (var thread : threads) {
+            assertFalse(thread.contains("commonPool"));
+        }
+    }
+    
+    private static void assertTimeout(Runnable action) {
+        var start = System.nanoTime();
+        action.run();
+        assertTrue(System.nanoTime() - start < 10_000_000_000L);
+    }
+}
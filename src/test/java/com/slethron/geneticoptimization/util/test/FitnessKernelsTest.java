@@ -0,0 +1,88 @@
+package com.slethron.geneticoptimization.util.test;
+
+import com.slethron.geneticoptimization.problem.StringMatchProblem;
+import com.slethron.geneticoptimization.util.FitnessKernels;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FitnessKernelsTest {
+    @Test
+    void sumOfAbsoluteDifferencesMatchesScalarLoop() {
+        var random = new Random(12);
+        for (var length : new int[] {0, 1, 7, 8, 9, 1023, 1024, 1025, 10007}) {
+            var individual = randomAscii(random, length, 0, 128);
+            var target = randomAscii(random, length, 0, 128);
+            
+            assertEquals(scalar(individual, target),
+                    FitnessKernels.sumOfAbsoluteDifferences(individual, target.getBytes()));
+        }
+    }
+    
+    @Test
+    void extremeLanesDoNotOverflow() {
+        var low = "\0".repeat(5000);
+        var high = "\u007f".repeat(5000);
+        
+        assertEquals(127 * 5000, FitnessKernels.sumOfAbsoluteDifferences(low, high.getBytes()));
+        assertEquals(127 * 5000, FitnessKernels.sumOfAbsoluteDifferences(high, low.getBytes()));
+        assertThrows(IllegalArgumentException.class,
+                () -> FitnessKernels.sumOfAbsoluteDifferences("ab", "abc".getBytes()));
+    }
+    
+    @Test
+    void nonAsciiIndividualsAreScoredExactlyAgainstAsciiTargets() {
+        var random = new Random(5);
+        var target = randomAscii(random, 3000, 32, 127);
+        var builder = new StringBuilder(randomAscii(random, 3000, 32, 127));
+        builder.setCharAt(2500, '\u0161');
+        var individual = builder.toString();
+        var stringMatchProblem = new StringMatchProblem("aaaaaaaa");
+        
+        assertEquals(scalar(individual, target),
+                FitnessKernels.sumOfAbsoluteDifferences(individual, target.getBytes()));
+        assertEquals(136, stringMatchProblem.fitness("\u00e9aaaaaaa"));
+        assertEquals(256, stringMatchProblem.fitness("\u0161aaaaaaa"));
+        assertEquals(0xd800 - 'a', stringMatchProblem.fitness("aaa\ud800aaaa"));
+        var scores = new double[1];
+        stringMatchProblem.fitness(List.of("aaaaaaa\uffff"), scores);
+        assertEquals(0xffff - 'a', scores[0]);
+    }
+    
+    @Test
+    void stringMatchProblemScoresAsciiAndOtherTargetsAlike() {
+        var random = new Random(3);
+        var asciiTarget = randomAscii(random, 3000, 32, 127);
+        var individuals = List.of(randomAscii(random, 3000, 32, 127), randomAscii(random, 3000, 32, 127));
+        var scores = new double[2];
+        
+        new StringMatchProblem(asciiTarget).fitness(individuals, scores);
+        
+        for (var i = 0; i < individuals.size(); i++) {
+            assertEquals(scalar(individuals.get(i), asciiTarget), scores[i]);
+        }
+        assertEquals(Math.abs('\u00e9' - 'e') + Math.abs('\u4e2d' - 'a'),
+                new StringMatchProblem("\u00e9\u4e2d").fitness("ea"));
+    }
+    
+    private static String randomAscii(Random random, int length, int from, int to) {
+        var builder = new StringBuilder(length);
+        for (var i = 0; i < length; i++) {
+            builder.append((char) (from + random.nextInt(to - from)));
+        }
+        
+        return builder.toString();
+    }
+    
+    private static int scalar(String individual, String target) {
+        var sum = 0;
+        for (var i = 0; i < individual.length(); i++) {
+            sum += Math.abs(target.charAt(i) - individual.charAt(i));
+        }
+        
+        return sum;
+    }
+}
@@ -0,0 +1,40 @@
+package com.slethron.geneticoptimization.util.test;
+
+import com.slethron.geneticoptimization.GenerationalEngine;
+import com.slethron.geneticoptimization.problem.NQueensProblem;
+import com.slethron.geneticoptimization.util.RandomProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomProviderTest {
+    @Test
+    void bindingTheSameSlotReplaysTheSameStream() {
+        var provider = new RandomProvider(42);
+        var first = provider.bind(3, 7).nextLong();
+        provider.bind(3, 8);
+        var second = provider.bind(3, 7).nextLong();
+        
+        assertEquals(first, second);
+        assertNotEquals(first, provider.bind(4, 7).nextLong());
+    }
+    
+    @Test
+    void sameSeedProducesSameInitialPopulationAndGenerations() {
+        var problem = new NQueensProblem(12);
+        var populationA = problem.generateInitialPopulation(2000, new RandomProvider(7));
+        var populationB = problem.generateInitialPopulation(2000, new RandomProvider(7));
+        assertEquals(populationA, populationB);
+        
+        var engineA = new GenerationalEngine<>(problem, new RandomProvider(11));
+        var engineB = new GenerationalEngine<>(problem, new RandomProvider(11));
+        var scoredA = engineA.evaluate(populationA);
+        var scoredB = engineB.evaluate(populationB);
+        for (var generation = 0; generation < 5; generation++) {
+            scoredA = engineA.nextGeneration(scoredA, .05, .25);
+            scoredB = engineB.nextGeneration(scoredB, .05, .25);
+        }
+        
+        assertEquals(scoredA.toList(), scoredB.toList());
+    }
+}
@@ -0,0 +1,46 @@
+package com.slethron.geneticoptimization.util.test;
+
+import com.slethron.geneticoptimization.domain.SudokuBoard;
+import com.slethron.geneticoptimization.util.RandomGeneratorUtil;
+import com.slethron.geneticoptimization.util.SudokuSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SudokuSolverTest {
+    @Test
+    void solveEmptyBoardProducesValidSolvedBoard() {
+        var board = new SudokuBoard();
+        assertTrue(SudokuSolver.solve(board, new Random(7)));
+        assertEquals(0, board.getEmptyCellCount());
+        for (var i = 0; i < SudokuBoard.SIZE; i++) {
+            assertEquals(0, board.getDuplicatesInRow(i));
+            assertEquals(0, board.getDuplicatesInColumn(i));
+            assertEquals(0, board.getDuplicatesInSubgrid(i));
+        }
+    }
+    
+    @Test
+    void generatedPuzzleHasExactlyOneSolution() {
+        var board = RandomGeneratorUtil.generateRandomSudokuBoard(30);
+        assertEquals(1, SudokuSolver.countSolutions(board, 2));
+    }
+    
+    @Test
+    void countSolutionsStopsAtLimit() {
+        assertEquals(2, SudokuSolver.countSolutions(new SudokuBoard(), 2));
+    }
+    
+    @Test
+    void conflictingGivensHaveNoSolution() {
+        var board = new SudokuBoard();
+        board.set(0, 0, 5);
+        board.set(0, 8, 5);
+        assertEquals(0, SudokuSolver.countSolutions(board, 2));
+        assertFalse(SudokuSolver.solve(board, new Random(7)));
+    }
+}